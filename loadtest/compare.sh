@@ -0,0 +1,59 @@
+#!/bin/bash
+
+# Runs the same k6 load against the platform-thread and the virtual-thread modes
+# and keeps both summaries (throughput and p50/p95/p99 latency) under loadtest/results.
+# Both modes run with the same Hikari pool (DB_POOL_SIZE connections, default 30, and the
+# vthreads profile's 5s connection timeout), so only the threading model differs.
+# Requires Java 21 and k6 (https://k6.io).
+# Usage: [DB_POOL_SIZE=n] ./loadtest/compare.sh [dev|prod]
+
+PROFILE=${1:-prod}
+PORT=${PORT:-8080}
+RESULTS_DIR="loadtest/results"
+JAR="target/meli-0.0.1-SNAPSHOT.jar"
+POOL_SIZE=${DB_POOL_SIZE:-30}
+
+if ! command -v k6 &> /dev/null
+then
+    echo "Error: k6 is not installed or not in the PATH"
+    exit 1
+fi
+
+echo "Building with Java 21..."
+./mvnw -q -Pjava21 -DskipTests package || exit 1
+mkdir -p "$RESULTS_DIR"
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+
+    echo "=========================================="
+    echo "Mode: $mode (profiles: $profiles)"
+    echo "=========================================="
+
+    java -jar "$JAR" --spring.profiles.active="$profiles" --server.port="$PORT" \
+        --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+        --spring.datasource.hikari.minimum-idle="$POOL_SIZE" \
+        --spring.datasource.hikari.connection-timeout=5000 \
+        > "$RESULTS_DIR/$mode.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Error: application failed to start, see $RESULTS_DIR/$mode.log"
+            exit 1
+        fi
+        sleep 1
+    done
+
+    k6 run -e BASE_URL="http://localhost:$PORT" --summary-export "$RESULTS_DIR/$mode-summary.json" loadtest/orders.js
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null
+}
+
+run_mode platform "$PROFILE"
+run_mode virtual "$PROFILE,vthreads"
+
+echo "Both modes ran with a pool of $POOL_SIZE connections"
+echo "Summaries written to $RESULTS_DIR/platform-summary.json and $RESULTS_DIR/virtual-summary.json"
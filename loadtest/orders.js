@@ -0,0 +1,43 @@
+// k6 load test for the order endpoints.
+// Mix: 60% order page reads, 25% item reads, 15% order placements.
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 -e DURATION=2m loadtest/orders.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CLIENT_IDS = (__ENV.CLIENT_IDS || '1,2,3').split(',');
+const ITEM_IDS = (__ENV.ITEM_IDS || '1,2,3').split(',');
+
+export const options = {
+    scenarios: {
+        orders: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 400),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function pick(values) {
+    return values[Math.floor(Math.random() * values.length)];
+}
+
+export default function () {
+    const roll = Math.random();
+
+    if (roll < 0.60) {
+        const res = http.get(`${BASE_URL}/api/v1/orders?limit=50`, { tags: { name: 'GET /orders?limit' } });
+        check(res, { 'page 200': (r) => r.status === 200 });
+    } else if (roll < 0.85) {
+        const res = http.get(`${BASE_URL}/api/v1/items/${pick(ITEM_IDS)}`, { tags: { name: 'GET /items/{id}' } });
+        check(res, { 'item 200': (r) => r.status === 200 });
+    } else {
+        const res = http.post(
+            `${BASE_URL}/api/v1/clients/${pick(CLIENT_IDS)}/orders`,
+            JSON.stringify({ itemId: Number(pick(ITEM_IDS)) }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'POST /clients/{id}/orders' } },
+        );
+        check(res, { 'order 201': (r) => r.status === 201 });
+    }
+}
@@ -0,0 +1,87 @@
+package com.pikolic.meli.benchmark;
+
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.search.InMemoryItemSearchIndex;
+import com.pikolic.meli.search.ItemChangedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency distribution of {@link InMemoryItemSearchIndex#search(String, int, int)} over
+ * synthetic catalogs, for a one-word prefix, a full word and a two-word query.
+ * <p>
+ * Items are named from a vocabulary of {@value #VOCABULARY} words, so a full word matches about
+ * {@code catalogSize / VOCABULARY * WORDS_PER_ITEM} items. Sample mode reports the p99 of each query.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ItemSearchBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+    private static final int WORDS_PER_ITEM = 6;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000", "1000000"})
+    private int catalogSize;
+
+    private InMemoryItemSearchIndex index;
+    private String[] words;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = randomWord(random);
+        }
+
+        index = new InMemoryItemSearchIndex(null, null);
+        for (long id = 1; id <= catalogSize; id++) {
+            String name = words[random.nextInt(VOCABULARY)] + " " + words[random.nextInt(VOCABULARY)];
+            StringBuilder description = new StringBuilder();
+            for (int w = 2; w < WORDS_PER_ITEM; w++) {
+                description.append(words[random.nextInt(VOCABULARY)]).append(' ');
+            }
+            index.onItemChanged(ItemChangedEvent.saved(new ItemResponseDTO(id, name, description.toString(), 10.0, 0L)));
+        }
+    }
+
+    @Benchmark
+    public List<ItemResponseDTO> prefix() {
+        return index.search(nextWord().substring(0, 2), 0, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<ItemResponseDTO> word() {
+        return index.search(nextWord(), 0, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<ItemResponseDTO> twoWords() {
+        return index.search(nextWord() + " " + nextWord().substring(0, 3), 0, PAGE_SIZE + 1);
+    }
+
+    private String nextWord() {
+        next = (next + 7919) % VOCABULARY;
+        return words[next];
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[4 + random.nextInt(6)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
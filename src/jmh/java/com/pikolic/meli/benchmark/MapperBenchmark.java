@@ -0,0 +1,74 @@
+package com.pikolic.meli.benchmark;
+
+import com.pikolic.meli.dto.client.ClientResponseDTO;
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import com.pikolic.meli.entity.ClientEntity;
+import com.pikolic.meli.entity.ItemEntity;
+import com.pikolic.meli.entity.OrderEntity;
+import com.pikolic.meli.mapper.ClientMapper;
+import com.pikolic.meli.mapper.ItemMapper;
+import com.pikolic.meli.mapper.OrderMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of converting single entities into their response DTOs.
+ *
+ * author Angel Lomelí
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ClientEntity client;
+    private ItemEntity item;
+    private OrderEntity order;
+
+    @Setup
+    public void setUp() {
+        client = ClientEntity.builder()
+                .id(1L)
+                .name("Angel Lomelí")
+                .age(24)
+                .email("alomelibravo@gmail.com")
+                .address("Avenida Los Venados 123")
+                .build();
+
+        item = ItemEntity.builder()
+                .id(2L)
+                .name("Wireless Mouse")
+                .description("Ergonomic wireless mouse with USB receiver")
+                .price(249.99)
+                .build();
+
+        order = OrderEntity.builder()
+                .id(3L)
+                .client(client)
+                .item(item)
+                .purchaseDate(LocalDate.of(2025, 10, 22))
+                .total(249.99)
+                .build();
+    }
+
+    @Benchmark
+    public OrderResponseDTO orderToResponse() {
+        return OrderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public ClientResponseDTO clientToResponse() {
+        return ClientMapper.toResponse(client);
+    }
+
+    @Benchmark
+    public ItemResponseDTO itemToResponse() {
+        return ItemMapper.toResponse(item);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pikolic.meli.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures Jackson serialization of {@link OrderResponseDTO} lists, as returned by the order listing endpoints.
+ * <p>
+ * The mapper is built with {@link Jackson2ObjectMapperBuilder}, the same defaults Spring MVC applies.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<OrderResponseDTO> orders;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+        orders = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new OrderResponseDTO(id, id % 100, id % 50, LocalDate.of(2025, 10, 22), 249.99, 0L))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeOrders() throws JsonProcessingException {
+        return writer.writeValueAsBytes(orders);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pikolic.meli.benchmark;
+
+import com.pikolic.meli.MeliApplication;
+import com.pikolic.meli.dto.client.ClientCreateDTO;
+import com.pikolic.meli.dto.item.ItemCreateDTO;
+import com.pikolic.meli.dto.order.OrderCreateDTO;
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import com.pikolic.meli.service.ClientService;
+import com.pikolic.meli.service.ItemService;
+import com.pikolic.meli.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OrderService#create(OrderCreateDTO)} and {@link OrderService#getAll()} end to end,
+ * through the Spring context and the in-memory H2 database of the {@code test} profile.
+ * <p>
+ * Each trial starts a fresh context on its own database, seeded with {@code datasetSize} orders.
+ * SQL logging is turned off so it does not dominate the measurement.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 5000;
+
+    @Param({"1000", "10000", "100000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderCreateDTO newOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MeliApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench_" + datasetSize + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        orderService = context.getBean(OrderService.class);
+        Long clientId = context.getBean(ClientService.class)
+                .create(new ClientCreateDTO("Angel Lomelí", 24, "alomelibravo@gmail.com", "Avenida Los Venados 123"))
+                .id();
+        Long itemId = context.getBean(ItemService.class)
+                .create(new ItemCreateDTO("Wireless Mouse", "Ergonomic wireless mouse", 249.99))
+                .id();
+
+        newOrder = new OrderCreateDTO(clientId, itemId, LocalDate.of(2025, 10, 22), 249.99);
+
+        List<OrderCreateDTO> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < datasetSize; i++) {
+            batch.add(newOrder);
+            if (batch.size() == SEED_BATCH_SIZE || i == datasetSize - 1) {
+                orderService.createBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponseDTO create() {
+        return orderService.create(newOrder);
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> getAll() {
+        return orderService.getAll();
+    }
+}
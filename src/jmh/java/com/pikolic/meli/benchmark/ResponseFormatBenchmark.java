@@ -0,0 +1,118 @@
+package com.pikolic.meli.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Compares the response formats offered through content negotiation: JSON, CBOR and Smile.
+ * <p>
+ * Measures encoding and decoding of {@link OrderResponseDTO} and {@link ItemResponseDTO} lists, as returned by the
+ * listing endpoints, with mappers configured like the application's (ISO dates).
+ * </p>
+ *
+ * <p>
+ * The encoded size of a payload does not depend on timing, so it is not a benchmark result: each trial appends
+ * it once, as {@code format,payload,size,bytes}, to {@code target/response-format-sizes.csv}, next to
+ * {@code jmh-result.json}.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"orders", "items"})
+    public String payload;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    /** File the encoded payload sizes are appended to, relative to the project directory Maven runs JMH from. */
+    private static final Path SIZES = Path.of("target", "response-format-sizes.csv");
+
+    private List<?> values;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException(format);
+        };
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        if (payload.equals("orders")) {
+            values = LongStream.rangeClosed(1, size)
+                    .mapToObj(id -> new OrderResponseDTO(id, id % 100, id % 50, LocalDate.of(2025, 10, 22), 249.99, 0L))
+                    .toList();
+            reader = mapper.readerFor(new TypeReference<List<OrderResponseDTO>>() {});
+        } else {
+            values = LongStream.rangeClosed(1, size)
+                    .mapToObj(id -> new ItemResponseDTO(id, "Item " + id, "Description of item " + id, 10.5 + id % 90, 0L))
+                    .toList();
+            reader = mapper.readerFor(new TypeReference<List<ItemResponseDTO>>() {});
+        }
+        writer = mapper.writerFor(List.class);
+        encoded = writer.writeValueAsBytes(values);
+        recordSize();
+    }
+
+    /**
+     * Appends the size of the encoded payload to {@link #SIZES}, starting the file with a header. Trials of both
+     * benchmarks, and of every fork, encode the same payload, so a size already in the file is not repeated.
+     */
+    private void recordSize() throws IOException {
+        String line = "%s,%s,%d,%d".formatted(format, payload, size, encoded.length);
+        Files.createDirectories(SIZES.getParent());
+        if (Files.notExists(SIZES)) {
+            Files.writeString(SIZES, "format,payload,size,bytes\n", StandardOpenOption.CREATE_NEW);
+        }
+        if (!Files.readAllLines(SIZES).contains(line)) {
+            Files.writeString(SIZES, line + "\n", StandardOpenOption.APPEND);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public List<?> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
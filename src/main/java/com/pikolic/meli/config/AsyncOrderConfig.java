@@ -0,0 +1,18 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Asynchronous order placement configuration for the Meli e-commerce API.
+ * <p>
+ * Binds {@link AsyncOrderProperties}, read by {@link com.pikolic.meli.service.impl.AsyncOrderServiceImpl}
+ * when {@code meli.orders.async.enabled=true}.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncOrderProperties.class)
+public class AsyncOrderConfig {
+}
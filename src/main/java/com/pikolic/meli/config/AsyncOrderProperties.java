@@ -0,0 +1,38 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of asynchronous order placement, bound from {@code meli.orders.async.*}.
+ *
+ * <p>Example configuration:</p>
+ * <pre>
+ * meli.orders.async.enabled=true
+ * meli.orders.async.capacity=10000
+ * meli.orders.async.batch-size=500
+ * meli.orders.async.max-wait=50ms
+ * </pre>
+ *
+ * @param enabled         whether {@code POST /api/v1/clients/{clientId}/orders} queues orders and answers 202
+ * @param capacity        the most accepted orders that may be waiting to be stored; further orders get a 429
+ * @param batchSize       the most orders stored in one transaction
+ * @param maxWait         how long the writer waits for a batch to fill before storing what it has
+ * @param trackingTtl     how long the status of an order stays available after its last change
+ * @param shutdownTimeout how long shutdown waits for the queue to be drained
+ *
+ * @see com.pikolic.meli.service.impl.AsyncOrderServiceImpl
+ *
+ * author Angel Lomelí
+ */
+@ConfigurationProperties("meli.orders.async")
+public record AsyncOrderProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50ms") Duration maxWait,
+        @DefaultValue("10m") Duration trackingTtl,
+        @DefaultValue("30s") Duration shutdownTimeout
+) {}
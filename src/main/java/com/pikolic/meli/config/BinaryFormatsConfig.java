@@ -0,0 +1,54 @@
+package com.pikolic.meli.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary encodings of the API payloads, selected through content negotiation.
+ * <p>
+ * Besides JSON, every endpoint reads and writes {@code application/cbor} and {@code application/x-jackson-smile}
+ * when the client sends them as {@code Content-Type} or asks for them in {@code Accept}. Both are binary forms of
+ * the same Jackson data model: the DTOs, their field names and the error bodies are identical to JSON, but numbers
+ * are not printed as text and, with Smile, repeated field names are written once per payload, which makes large
+ * listings smaller and cheaper to parse for service-to-service callers.
+ * </p>
+ *
+ * <p>
+ * The mappers are built from the application's {@link Jackson2ObjectMapperBuilder}, so the {@code spring.jackson.*}
+ * settings (ISO dates among them) apply to every format. The converters take the place of Spring's defaults for the
+ * same media types, after the JSON converter, so JSON remains the response format when {@code Accept} is absent or
+ * {@code *}{@code /*}.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    /**
+     * Creates the {@code application/cbor} converter.
+     *
+     * @param builder the application's Jackson builder
+     * @return the CBOR converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the {@code application/x-jackson-smile} converter.
+     *
+     * @param builder the application's Jackson builder
+     * @return the Smile converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
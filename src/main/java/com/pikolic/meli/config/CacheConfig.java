@@ -0,0 +1,61 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Cache configuration for the Meli e-commerce API.
+ * <p>
+ * Enables Spring's cache abstraction backed by Caffeine. Cache names, sizes and TTLs are set
+ * through the standard {@code spring.cache.*} properties, and statistics are recorded so that hit,
+ * miss and eviction counters are published under {@code /actuator/metrics/cache.*}.
+ * </p>
+ *
+ * <p>Caches:</p>
+ * <ul>
+ *     <li>{@link #ITEMS_CACHE}: item lookups by ID, used by item reads and order placement.</li>
+ * </ul>
+ *
+ * <p>
+ * The caching advice is ordered before the transaction advice, so a cache hit returns before a
+ * transaction is opened and no pooled connection is borrowed for it.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+@EnableCaching(order = CacheConfig.CACHE_ADVICE_ORDER)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /** Name of the cache holding {@link com.pikolic.meli.dto.item.ItemResponseDTO} entries by item ID. */
+    public static final String ITEMS_CACHE = "items";
+
+    /** Order of the caching advice: just outside the transaction advice, which runs at {@link Ordered#LOWEST_PRECEDENCE}. */
+    public static final int CACHE_ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    /**
+     * Creates the Caffeine cache manager.
+     * <p>
+     * The manager is wrapped so that cache puts and evictions wait for the surrounding transaction
+     * to commit; a concurrent read therefore cannot re-populate an entry with data that is about to change.
+     * </p>
+     *
+     * @param cacheProperties the {@code spring.cache.*} properties
+     * @return the transaction-aware cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,60 @@
+package com.pikolic.meli.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration for the Meli e-commerce API.
+ * <p>
+ * Every service implementation is annotated with {@code @Timed(SERVICE_TIMER)}; the {@link TimedAspect}
+ * registered here turns those annotations into timers tagged with the service class and method, published
+ * with histogram buckets so percentiles can be computed per method.
+ * </p>
+ *
+ * <p>Together with the metrics Spring Boot binds automatically, {@code /actuator/prometheus} exposes:</p>
+ * <ul>
+ *     <li>{@code meli_service_seconds}: latency of every service method.</li>
+ *     <li>{@code spring_data_repository_invocations_seconds}: latency of every repository method.</li>
+ *     <li>{@code http_server_requests_seconds}: latency of every endpoint.</li>
+ *     <li>{@code meli_http_response_bytes}: response body bytes sent on the wire per endpoint and content encoding,
+ *     after compression.</li>
+ *     <li>{@code meli_http_request_cpu_seconds}: CPU time spent serving each request, compression included.</li>
+ *     <li>{@code hikaricp_connections_*}: connection pool usage, pending threads and acquire time.</li>
+ *     <li>{@code hibernate_*}: Hibernate statistics such as statements, entity loads and query times.</li>
+ * </ul>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** Name of the timer recorded around every service method. */
+    public static final String SERVICE_TIMER = "meli.service";
+
+    /**
+     * Registers the aspect that records {@code @Timed} methods.
+     *
+     * @param meterRegistry the registry the timers are published to
+     * @return the timed aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Registers the Tomcat valve recording the bytes on the wire and the CPU time of every request.
+     *
+     * @param meterRegistry the registry the meters are published to
+     * @return the customizer adding the valve to the embedded Tomcat
+     * @see ResponseWireMetricsValve
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> responseWireMetricsCustomizer(MeterRegistry meterRegistry) {
+        return factory -> factory.addEngineValves(new ResponseWireMetricsValve(meterRegistry));
+    }
+}
@@ -0,0 +1,39 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the order event stream, bound from {@code meli.orders.events.*}.
+ *
+ * <p>Example configuration:</p>
+ * <pre>
+ * meli.orders.events.relay-interval=200ms
+ * meli.orders.events.batch-size=500
+ * meli.orders.events.retention=7d
+ * meli.orders.events.subscriber-buffer=1000
+ * </pre>
+ *
+ * @param relayInterval  the delay between two runs of the relay publishing new outbox rows
+ * @param batchSize      the most outbox rows published, or replayed, per transaction
+ * @param retention      how long published events stay available for replay
+ * @param purgeInterval  the delay between two purges of events older than {@code retention}
+ * @param emitterTimeout how long a subscription stays open before the client has to reconnect
+ * @param subscriberBuffer the most events waiting to be sent to one subscription; a subscription that falls
+ *                       further behind is closed, and its client resumes from its last position on reconnect
+ *
+ * @see com.pikolic.meli.service.impl.OrderEventServiceImpl
+ *
+ * author Angel Lomelí
+ */
+@ConfigurationProperties("meli.orders.events")
+public record OrderEventProperties(
+        @DefaultValue("200ms") Duration relayInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("1h") Duration purgeInterval,
+        @DefaultValue("30m") Duration emitterTimeout,
+        @DefaultValue("1000") int subscriberBuffer
+) {}
@@ -0,0 +1,21 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Order event stream configuration for the Meli e-commerce API.
+ * <p>
+ * Binds {@link OrderEventProperties} and enables Spring's scheduling, which runs the outbox relay and purge
+ * of {@link com.pikolic.meli.service.impl.OrderEventServiceImpl} on a fixed delay, as well as the
+ * replication lag checks of {@link ReplicaRoutingConfig} when read replicas are configured.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OrderEventProperties.class)
+public class OrderEventsConfig {
+}
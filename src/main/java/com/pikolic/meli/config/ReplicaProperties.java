@@ -0,0 +1,54 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the read replicas, bound from {@code meli.datasource.replicas.*}.
+ * <p>
+ * Replicas share the credentials and pool settings of the primary {@code spring.datasource.*}.
+ * </p>
+ *
+ * <p>Example configuration:</p>
+ * <pre>
+ * meli.datasource.replicas.urls=jdbc:postgresql://replica-1/meli,jdbc:postgresql://replica-2/meli
+ * meli.datasource.replicas.max-lag=5s
+ * meli.datasource.replicas.lag-check-interval=5s
+ * </pre>
+ *
+ * @param urls             JDBC URLs of the replicas; routing is disabled when empty
+ * @param maxLag           a replica lagging further behind the primary stops serving reads until it catches up
+ * @param lagCheckInterval delay between two replication lag checks
+ * @param lagQuery         query returning the replication lag of a replica, in seconds
+ *
+ * @see ReplicaRoutingConfig
+ *
+ * author Angel Lomelí
+ */
+@ConfigurationProperties("meli.datasource.replicas")
+public record ReplicaProperties(
+        @DefaultValue List<String> urls,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration lagCheckInterval,
+        @DefaultValue(ReplicaProperties.POSTGRESQL_LAG_QUERY) String lagQuery
+) {
+
+    /**
+     * Replication lag of a PostgreSQL standby, in seconds: 0 on a server that is not in recovery, and 0 on a
+     * standby that is streaming from the primary and has replayed all the WAL it received, however long ago the
+     * primary last wrote. Otherwise, the time since the last replayed transaction committed on the primary.
+     * <p>
+     * An idle primary therefore does not make its replicas look stale. A standby whose WAL receiver is not
+     * streaming keeps its last received position, so it is measured by the timestamp instead and is taken out of
+     * rotation once it falls behind.
+     * </p>
+     */
+    public static final String POSTGRESQL_LAG_QUERY = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') "
+            + "AND pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+}
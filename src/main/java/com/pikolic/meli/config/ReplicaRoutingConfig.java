@@ -0,0 +1,110 @@
+package com.pikolic.meli.config;
+
+import com.pikolic.meli.datasource.ReplicaRoutingDataSource;
+import com.pikolic.meli.datasource.ReplicationLagMonitor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing for the Meli e-commerce API.
+ * <p>
+ * Active only when {@code meli.datasource.replicas.urls} lists at least one replica; otherwise Spring Boot's
+ * single data source is used unchanged. Services run their reads in read-only transactions, which
+ * {@link ReplicaRoutingDataSource} sends to the replicas, while writes and Flyway migrations go to the primary.
+ * </p>
+ *
+ * <p>
+ * The application {@link DataSource} is a {@link LazyConnectionDataSourceProxy} in front of the routing data
+ * source, so no physical connection is taken until the first statement, when the read-only flag of the
+ * transaction is known. {@link ReplicationLagMonitor} checks the replication lag of every replica on a fixed delay;
+ * scheduling is enabled by {@link OrderEventsConfig}.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnExpression("!'${meli.datasource.replicas.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Pool settings bound from {@code spring.datasource.hikari.*}, shared by the primary and the replicas.
+     *
+     * @return the Hikari configuration
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig hikariConfig() {
+        return new HikariConfig();
+    }
+
+    /**
+     * Creates the primary and replica pools and the data source routing between them.
+     *
+     * @param dataSourceProperties the {@code spring.datasource.*} properties of the primary
+     * @param hikariConfig         the shared pool settings
+     * @param replicaProperties    the replica settings
+     * @return the routing data source
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             HikariConfig hikariConfig,
+                                                             ReplicaProperties replicaProperties) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.urls().size(); i++) {
+            replicas.add(createPool(dataSourceProperties, hikariConfig, "replica-" + i, replicaProperties.urls().get(i), true));
+        }
+        HikariDataSource primary = createPool(dataSourceProperties, hikariConfig, "primary", dataSourceProperties.determineUrl(), false);
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    /**
+     * The application data source, deferring connection retrieval until the first statement.
+     *
+     * @param replicaRoutingDataSource the routing data source
+     * @return the lazy data source used by JPA, Flyway and JDBC
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Checks the replication lag of the replicas on a fixed delay.
+     *
+     * @param replicaRoutingDataSource the routing data source
+     * @param replicaProperties        the replica settings
+     * @return the lag monitor
+     */
+    @Bean
+    public ReplicationLagMonitor replicationLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                       ReplicaProperties replicaProperties) {
+        return new ReplicationLagMonitor(replicaRoutingDataSource, replicaProperties);
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties dataSourceProperties, HikariConfig hikariConfig,
+                                               String name, String url, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        hikariConfig.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
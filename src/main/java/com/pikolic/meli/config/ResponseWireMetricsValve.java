@@ -0,0 +1,102 @@
+package com.pikolic.meli.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.ServletException;
+import org.apache.catalina.AccessLog;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tomcat valve recording, for every request, the response body bytes sent on the wire and the CPU time spent
+ * on the request thread.
+ * <p>
+ * Tomcat calls {@link #log} once the response is complete, with the same byte count as the {@code %b} field of
+ * its access log: the body after compression, as written to the socket. CPU time runs from the start of the
+ * request to that point on the thread that served it, compression included; it is not recorded for
+ * asynchronous requests, which finish on another thread. A thread CPU clock unsupported by the JVM, which
+ * reports {@code -1}, leaves the timer empty.
+ * </p>
+ *
+ * <p>
+ * Both meters are tagged like {@code http.server.requests} ({@code method}, {@code uri}, {@code status}), plus
+ * the {@code encoding} of the response, so compressed and uncompressed responses of an endpoint can be compared.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+class ResponseWireMetricsValve extends ValveBase implements AccessLog {
+
+    /** Name of the distribution of response body bytes sent on the wire. */
+    static final String RESPONSE_BYTES = "meli.http.response.bytes";
+
+    /** Name of the timer of the CPU time spent per request. */
+    static final String REQUEST_CPU = "meli.http.request.cpu";
+
+    private static final String START_NOTE = ResponseWireMetricsValve.class.getName() + ".start";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry meterRegistry;
+
+    ResponseWireMetricsValve(MeterRegistry meterRegistry) {
+        super(true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        request.setNote(START_NOTE, THREADS.getCurrentThreadCpuTime());
+        getNext().invoke(request, response);
+        if (request.isAsync()) {
+            request.removeNote(START_NOTE);
+        }
+    }
+
+    @Override
+    public void log(Request request, Response response, long time) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String encoding = response.getHeader(HttpHeaders.CONTENT_ENCODING);
+        Tags tags = Tags.of(
+                "method", request.getMethod(),
+                "uri", pattern != null ? pattern.toString() : "UNKNOWN",
+                "status", String.valueOf(response.getStatus()),
+                "encoding", encoding != null ? encoding : "identity");
+
+        DistributionSummary.builder(RESPONSE_BYTES)
+                .baseUnit("bytes")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry)
+                .record(response.getBytesWritten(false));
+
+        if (request.getNote(START_NOTE) instanceof Long start && start >= 0) {
+            long cpuNanos = THREADS.getCurrentThreadCpuTime() - start;
+            Timer.builder(REQUEST_CPU)
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(this.meterRegistry)
+                    .record(cpuNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Access logs are configured through server.tomcat.accesslog.*; these settings do not apply to metrics.
+
+    @Override
+    public void setRequestAttributesEnabled(boolean requestAttributesEnabled) {}
+
+    @Override
+    public boolean getRequestAttributesEnabled() {
+        return false;
+    }
+}
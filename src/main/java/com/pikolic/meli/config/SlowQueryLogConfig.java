@@ -0,0 +1,61 @@
+package com.pikolic.meli.config;
+
+import com.pikolic.meli.logging.SlowQueryListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Slow-query logging configuration for the Meli e-commerce API.
+ * <p>
+ * Replaces {@code spring.jpa.show-sql}, which printed every statement synchronously to stdout.
+ * The application {@link DataSource} is wrapped in a datasource-proxy that times each statement and hands
+ * it to {@link SlowQueryListener}, which only logs statements slower than the configured threshold.
+ * </p>
+ *
+ * <p>
+ * Log events go to the {@link SlowQueryListener#LOGGER_NAME} logger, which {@code logback-spring.xml}
+ * routes through an asynchronous appender so request threads never wait on log I/O.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@ConditionalOnProperty(prefix = "meli.sql.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    /**
+     * Wraps every {@link DataSource} bean in a proxy that reports slow statements.
+     * <p>
+     * Declared static so the post-processor is registered before the data source is created.
+     * The proxy still unwraps to the pooled data source, so pool metrics keep working.
+     * </p>
+     *
+     * @param properties the slow-query settings, resolved lazily
+     * @return the post-processor wrapping the data source
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // A routing data source only hands out connections of the proxied data source in front of it.
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SlowQueryListener(properties.getObject().threshold()))
+                        .build();
+            }
+        };
+    }
+}
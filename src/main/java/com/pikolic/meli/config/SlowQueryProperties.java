@@ -0,0 +1,28 @@
+package com.pikolic.meli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the slow-query log, bound from {@code meli.sql.slow-query.*}.
+ *
+ * <p>Example configuration:</p>
+ * <pre>
+ * meli.sql.slow-query.enabled=true
+ * meli.sql.slow-query.threshold=250ms
+ * </pre>
+ *
+ * @param enabled   whether statements are timed and slow ones logged
+ * @param threshold statements taking at least this long are logged
+ *
+ * @see SlowQueryLogConfig
+ *
+ * author Angel Lomelí
+ */
+@ConfigurationProperties("meli.sql.slow-query")
+public record SlowQueryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration threshold
+) {}
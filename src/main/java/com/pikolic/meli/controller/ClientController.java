@@ -6,9 +6,11 @@ import com.pikolic.meli.dto.client.ClientUpdateDTO;
 import com.pikolic.meli.service.ClientService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,7 +27,7 @@ import java.util.List;
  * <ul>
  *     <li>{@code POST /api/v1/clients} – Create a new client</li>
  *     <li>{@code GET /api/v1/clients} – Retrieve all clients</li>
- *     <li>{@code GET /api/v1/clients/{id}} – Retrieve a specific client by ID</li>
+ *     <li>{@code GET /api/v1/clients/{id}} – Retrieve a specific client by ID (supports {@code If-None-Match})</li>
  *     <li>{@code PUT /api/v1/clients/{id}} – Update a client by ID</li>
  *     <li>{@code DELETE /api/v1/clients/{id}} – Delete a client by ID</li>
  * </ul>
@@ -72,28 +74,50 @@ public class ClientController {
     /**
      * Retrieves a specific client by its unique ID.
      *
-     * @param id the ID of the client to retrieve
+     * <p>
+     * The response carries a strong {@code ETag} holding the version of the returned client. When the
+     * request's {@code If-None-Match} matches it, an HTTP 304 (Not Modified) is returned without
+     * serializing the client.
+     * </p>
+     *
+     * @param id         the ID of the client to retrieve
+     * @param webRequest the current request, used to evaluate {@code If-None-Match}
      * @return a {@link ResponseEntity} containing the corresponding {@link ClientResponseDTO}
-     *         and an HTTP 200 (OK) status
+     *         and an HTTP 200 (OK) status, or {@code null} once a 304 has been prepared
      * @throws com.pikolic.meli.exception.NotFoundException if the client does not exist
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ClientResponseDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(this.clientService.getById(id));
+    public ResponseEntity<ClientResponseDTO> getById(@PathVariable Long id, WebRequest webRequest) {
+        ClientResponseDTO client = this.clientService.getById(id);
+        if (webRequest.checkNotModified(String.valueOf(client.version()))) {
+            return null;
+        }
+        return ResponseEntity.ok(client);
     }
 
     /**
      * Updates an existing client's information.
+     * <p>
+     * When {@code If-Match} carries the {@code ETag} of a previous read, the update is only applied
+     * if the client has not changed since. The response carries the {@code ETag} of the new version.
+     * </p>
      *
-     * @param id  the ID of the client to update
-     * @param dto the data transfer object containing the updated client details
+     * @param id      the ID of the client to update
+     * @param dto     the data transfer object containing the updated client details
+     * @param ifMatch the optional {@code If-Match} header
      * @return a {@link ResponseEntity} containing the updated {@link ClientResponseDTO}
      *         and an HTTP 200 (OK) status
      * @throws com.pikolic.meli.exception.NotFoundException if the client does not exist
+     * @throws com.pikolic.meli.exception.PreconditionFailedException if {@code If-Match} does not match the client version
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ClientResponseDTO> update(@PathVariable Long id, @Valid @RequestBody ClientUpdateDTO dto) {
-        return ResponseEntity.ok(this.clientService.update(id, dto));
+    public ResponseEntity<ClientResponseDTO> update(
+            @PathVariable Long id,
+            @Valid @RequestBody ClientUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        ClientResponseDTO client = this.clientService.update(id, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(client.version())).body(client);
     }
 
     /**
@@ -1,15 +1,25 @@
 package com.pikolic.meli.controller;
 
 import com.pikolic.meli.dto.order.OrderCreateForClientDTO;
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
 import com.pikolic.meli.dto.order.OrderResponseDTO;
+import com.pikolic.meli.dto.order.OrderTrackingDTO;
+import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.service.AsyncOrderService;
 import com.pikolic.meli.service.ClientOrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * REST controller for managing orders associated with specific clients.
@@ -24,8 +34,11 @@ import java.util.List;
  * <p>Example endpoints:</p>
  * <ul>
  *     <li>{@code GET /api/v1/clients/{clientId}/orders} – Retrieve all orders for a specific client</li>
+ *     <li>{@code GET /api/v1/clients/{clientId}/orders?from={date}&to={date}&cursor={cursor}&limit={n}} – Retrieve a
+ *     keyset-paginated page of the orders of a client purchased within a date range</li>
  *     <li>{@code GET /api/v1/clients/{clientId}/orders/{orderId}} – Retrieve a specific order for a client</li>
  *     <li>{@code POST /api/v1/clients/{clientId}/orders} – Create a new order for a client</li>
+ *     <li>{@code GET /api/v1/clients/{clientId}/orders/requests/{trackingId}} – Status of an order placed asynchronously</li>
  *     <li>{@code PUT /api/v1/clients/{clientId}/orders/{orderId}} – Update an existing order for a client</li>
  *     <li>{@code DELETE /api/v1/clients/{clientId}/orders/{orderId}} – Delete a specific order for a client</li>
  * </ul>
@@ -45,6 +58,9 @@ class ClientOrderController {
     /** Service layer responsible for handling client order operations. */
     private final ClientOrderService clientOrderService;
 
+    /** Asynchronous order placement, present only when {@code meli.orders.async.enabled} is set. */
+    private final Optional<AsyncOrderService> asyncOrderService;
+
     /**
      * Retrieves all orders associated with a specific client.
      *
@@ -58,55 +74,120 @@ class ClientOrderController {
         return ResponseEntity.ok(this.clientOrderService.getOrdersByClientId(clientId));
     }
 
+    /**
+     * Retrieves a page of the orders of a client purchased within a date range, using keyset pagination.
+     * <p>
+     * Selected when both {@code from} and {@code to} are present. Orders are sorted by purchase date,
+     * then ID; the response contains a {@code nextCursor} that must be sent as {@code cursor}, with the
+     * same range, to read the following page.
+     * </p>
+     *
+     * @param clientId the ID of the client whose orders are to be retrieved
+     * @param from     the first purchase date, inclusive, as {@code yyyy-MM-dd}
+     * @param to       the last purchase date, inclusive, as {@code yyyy-MM-dd}
+     * @param cursor   the cursor returned with the previous page; omit it to start from the beginning
+     * @param limit    the maximum number of orders to return
+     * @return a {@link ResponseEntity} containing an {@link OrderDatePageDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.NotFoundException if the client does not exist
+     * @throws com.pikolic.meli.exception.BadRequestException if the range is inverted or the cursor is invalid
+     */
+    @GetMapping(value = {"/{clientId}/orders", "/{clientId}/orders/"}, params = {"from", "to"})
+    public ResponseEntity<OrderDatePageDTO> getOrdersByClientIdBetween(
+            @PathVariable Long clientId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(this.clientOrderService.getOrdersBetween(clientId, from, to, cursor, limit));
+    }
+
     /**
      * Retrieves a specific order for a given client by order ID.
      *
      * @param clientId the ID of the client who owns the order
      * @param orderId  the ID of the order to retrieve
-     * @return a {@link ResponseEntity} containing the requested {@link OrderResponseDTO}
-     *         and an HTTP 200 (OK) status
+     * @return a {@link ResponseEntity} containing the requested {@link OrderResponseDTO},
+     *         the {@code ETag} of its version and an HTTP 200 (OK) status
      * @throws com.pikolic.meli.exception.NotFoundException if the client or order does not exist
      */
     @GetMapping("/{clientId}/orders/{orderId}")
     public ResponseEntity<OrderResponseDTO> getOrderByClientAndId(@PathVariable Long clientId, @PathVariable Long orderId) {
-        return ResponseEntity.ok(this.clientOrderService.getOrderByClientAndId(clientId, orderId));
+        OrderResponseDTO order = this.clientOrderService.getOrderByClientAndId(clientId, orderId);
+        return ResponseEntity.ok().eTag(String.valueOf(order.version())).body(order);
     }
 
     /**
      * Creates a new order for a specific client.
+     * <p>
+     * When asynchronous placement is enabled, the order is validated and queued instead of stored:
+     * the response is an HTTP 202 (Accepted) with an {@link OrderTrackingDTO}, and its {@code Location}
+     * points to the status endpoint.
+     * </p>
      *
      * @param clientId the ID of the client for whom the order will be created
      * @param dto      the data transfer object containing order details
      * @return a {@link ResponseEntity} containing the created {@link OrderResponseDTO}
-     *         and an HTTP 201 (Created) status
+     *         and an HTTP 201 (Created) status, or the pending {@link OrderTrackingDTO}
+     *         and an HTTP 202 (Accepted) status
      * @throws com.pikolic.meli.exception.NotFoundException if the client does not exist
+     * @throws com.pikolic.meli.exception.TooManyRequestsException if the asynchronous order queue is full
      * @throws jakarta.validation.ConstraintViolationException if validation on {@code dto} fails
      */
     @PostMapping({"/{clientId}/orders", "/{clientId}/orders/"})
-    public ResponseEntity<OrderResponseDTO> createOrderForClient(@PathVariable Long clientId, @Valid @RequestBody OrderCreateForClientDTO dto) {
+    public ResponseEntity<?> createOrderForClient(@PathVariable Long clientId, @Valid @RequestBody OrderCreateForClientDTO dto) {
+        if (this.asyncOrderService.isPresent()) {
+            OrderTrackingDTO tracking = this.asyncOrderService.get().submit(clientId, dto);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/v1/clients/" + clientId + "/orders/requests/" + tracking.trackingId()))
+                    .body(tracking);
+        }
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(this.clientOrderService.createOrderForClient(clientId, dto));
     }
 
+    /**
+     * Retrieves the status of an order placed asynchronously.
+     *
+     * @param clientId   the ID of the client who placed the order
+     * @param trackingId the tracking ID returned when the order was accepted
+     * @return a {@link ResponseEntity} containing the {@link OrderTrackingDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.NotFoundException if asynchronous placement is disabled,
+     *         or the tracking ID is unknown, expired or belongs to another client
+     */
+    @GetMapping("/{clientId}/orders/requests/{trackingId}")
+    public ResponseEntity<OrderTrackingDTO> getOrderRequestStatus(@PathVariable Long clientId, @PathVariable UUID trackingId) {
+        AsyncOrderService service = this.asyncOrderService
+                .orElseThrow(() -> new NotFoundException("Asynchronous order placement is disabled"));
+        return ResponseEntity.ok(service.getStatus(clientId, trackingId));
+    }
+
     /**
      * Updates an existing order for a specific client.
      *
      * @param clientId the ID of the client who owns the order
      * @param orderId  the ID of the order to update
      * @param dto      the data transfer object containing the updated order details
-     * @return a {@link ResponseEntity} containing the updated {@link OrderResponseDTO}
-     *         and an HTTP 200 (OK) status
+     * @param ifMatch  the optional {@code If-Match} header holding the {@code ETag} of a previous read
+     * @return a {@link ResponseEntity} containing the updated {@link OrderResponseDTO},
+     *         the {@code ETag} of its new version and an HTTP 200 (OK) status
      * @throws com.pikolic.meli.exception.NotFoundException if the client or order does not exist
+     * @throws com.pikolic.meli.exception.PreconditionFailedException if {@code If-Match} does not match the order version
      * @throws jakarta.validation.ConstraintViolationException if validation on {@code dto} fails
      */
     @PutMapping("/{clientId}/orders/{orderId}")
     public ResponseEntity<OrderResponseDTO> updateOrderByClientAndOrderId(
             @PathVariable Long clientId,
             @PathVariable Long orderId,
-            @Valid @RequestBody OrderCreateForClientDTO dto
+            @Valid @RequestBody OrderCreateForClientDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(this.clientOrderService.updateOrderById(clientId, orderId, dto));
+        OrderResponseDTO order = this.clientOrderService.updateOrderById(clientId, orderId, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(order.version())).body(order);
     }
 
     /**
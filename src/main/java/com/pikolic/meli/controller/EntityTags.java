@@ -0,0 +1,42 @@
+package com.pikolic.meli.controller;
+
+import com.pikolic.meli.exception.PreconditionFailedException;
+import lombok.NoArgsConstructor;
+
+/**
+ * Helpers for the strong entity tags exposed by the API.
+ * <p>
+ * The tag of a resource is its optimistic-locking version, quoted as required by RFC 9110,
+ * e.g. {@code "3"}. Updates may send it back in {@code If-Match} so that a change based on a
+ * stale read is rejected instead of silently overwriting a newer one.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@NoArgsConstructor
+final class EntityTags {
+
+    /**
+     * Reads the version expected by an {@code If-Match} header.
+     *
+     * @param ifMatch the raw header value, or {@code null} if absent
+     * @return the expected version, or {@code null} if the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header is not a single strong tag holding a version,
+     *                                     since a weak or foreign tag can never match
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // Not one of our tags; reported below.
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + tag + " does not match the current version");
+    }
+}
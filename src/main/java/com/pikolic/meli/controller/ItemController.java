@@ -1,14 +1,20 @@
 package com.pikolic.meli.controller;
 
+import com.pikolic.meli.dto.PageDTO;
+import com.pikolic.meli.dto.item.ItemBatchResultDTO;
 import com.pikolic.meli.dto.item.ItemCreateDTO;
+import com.pikolic.meli.dto.item.ItemPatchDTO;
+import com.pikolic.meli.dto.item.ItemQueryDTO;
 import com.pikolic.meli.dto.item.ItemResponseDTO;
 import com.pikolic.meli.dto.item.ItemUpdateDTO;
 import com.pikolic.meli.service.ItemService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,8 +31,12 @@ import java.util.List;
  * <ul>
  *     <li>{@code POST /api/v1/items} – Create a new item</li>
  *     <li>{@code GET /api/v1/items} – Retrieve all items</li>
- *     <li>{@code GET /api/v1/items/{id}} – Retrieve a specific item by ID</li>
+ *     <li>{@code GET /api/v1/items?minPrice=&maxPrice=&name=&sort=&direction=&page=&size=&count=} – Retrieve a
+ *     filtered, sorted page of items</li>
+ *     <li>{@code GET /api/v1/items/search?q={words}&page={n}&size={n}} – Search items by name and description</li>
+ *     <li>{@code GET /api/v1/items/{id}} – Retrieve a specific item by ID (supports {@code If-None-Match})</li>
  *     <li>{@code PUT /api/v1/items/{id}} – Update an existing item</li>
+ *     <li>{@code PATCH /api/v1/items/batch} – Update many items in a single call</li>
  *     <li>{@code DELETE /api/v1/items/{id}} – Delete an item by ID</li>
  * </ul>
  *
@@ -61,41 +71,124 @@ class ItemController {
 
     /**
      * Retrieves a specific item by its unique ID.
+     * <p>
+     * The response carries a strong {@code ETag} holding the item version. The version travels
+     * with the cached item, so when the request's {@code If-None-Match} matches it, an HTTP 304
+     * (Not Modified) is returned without querying the database or serializing the item.
+     * </p>
      *
-     * @param id the ID of the item to retrieve
+     * @param id         the ID of the item to retrieve
+     * @param webRequest the current request, used to evaluate {@code If-None-Match}
      * @return a {@link ResponseEntity} containing the requested {@link ItemResponseDTO}
-     *         and an HTTP 200 (OK) status
+     *         and an HTTP 200 (OK) status, or {@code null} once a 304 has been prepared
      * @throws com.pikolic.meli.exception.NotFoundException if the item does not exist
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ItemResponseDTO> getItemById(@PathVariable Long id) {
-        return ResponseEntity.ok(this.itemService.getById(id));
+    public ResponseEntity<ItemResponseDTO> getItemById(@PathVariable Long id, WebRequest webRequest) {
+        ItemResponseDTO item = this.itemService.getById(id);
+        if (webRequest.checkNotModified(String.valueOf(item.version()))) {
+            return null;
+        }
+        return ResponseEntity.ok(item);
     }
 
     /**
      * Retrieves all items in the system.
+     * <p>
+     * Selected when none of the {@link ItemQueryDTO} parameters is present; any of them selects
+     * {@link #findItems(ItemQueryDTO)} instead.
+     * </p>
      *
      * @return a {@link ResponseEntity} containing a list of {@link ItemResponseDTO}
      *         and an HTTP 200 (OK) status
      */
-    @GetMapping({"", "/"})
+    @GetMapping(value = {"", "/"},
+            params = {"!minPrice", "!maxPrice", "!name", "!sort", "!direction", "!page", "!size", "!count"})
     public ResponseEntity<List<ItemResponseDTO>> getAllItems() {
         return ResponseEntity.ok(this.itemService.getAll());
     }
 
+    /**
+     * Retrieves a filtered, sorted page of items.
+     * <p>
+     * Selected when any of the {@link ItemQueryDTO} parameters is present. The page {@code total}
+     * is only computed when {@code count=true}.
+     * </p>
+     *
+     * @param query the filters, sort and page
+     * @return a {@link ResponseEntity} containing a {@link PageDTO} of {@link ItemResponseDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.BadRequestException if a parameter is out of range
+     */
+    @GetMapping({"", "/"})
+    public ResponseEntity<PageDTO<ItemResponseDTO>> findItems(ItemQueryDTO query) {
+        return ResponseEntity.ok(this.itemService.find(query));
+    }
+
+    /**
+     * Searches items by the words of their name and description.
+     * <p>
+     * Every word must match a word of the item, or be its prefix. Results are ranked, name matches first,
+     * and paginated; {@code hasNext} tells whether another page follows.
+     * </p>
+     *
+     * @param q    the words to search for
+     * @param page the zero-based number of the page
+     * @param size the maximum number of items per page, at most 100
+     * @return a {@link ResponseEntity} containing a {@link PageDTO} of {@link ItemResponseDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.BadRequestException if {@code q} is missing or blank, or {@code page} is out of range
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageDTO<ItemResponseDTO>> searchItems(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(this.itemService.search(q, page, size));
+    }
+
     /**
      * Updates an existing item by its unique ID.
+     * <p>
+     * When {@code If-Match} carries the {@code ETag} of a previous read, the update is only applied
+     * if the item has not changed since. The response carries the {@code ETag} of the new version.
+     * </p>
      *
-     * @param id  the ID of the item to update
-     * @param dto the data transfer object containing the updated item details
+     * @param id      the ID of the item to update
+     * @param dto     the data transfer object containing the updated item details
+     * @param ifMatch the optional {@code If-Match} header
      * @return a {@link ResponseEntity} containing the updated {@link ItemResponseDTO}
      *         and an HTTP 200 (OK) status
      * @throws com.pikolic.meli.exception.NotFoundException if the item does not exist
+     * @throws com.pikolic.meli.exception.PreconditionFailedException if {@code If-Match} does not match the item version
      * @throws jakarta.validation.ConstraintViolationException if validation on {@code dto} fails
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ItemResponseDTO> updateItemById(@PathVariable Long id, @Valid @RequestBody ItemUpdateDTO dto) {
-        return ResponseEntity.ok(this.itemService.update(id, dto));
+    public ResponseEntity<ItemResponseDTO> updateItemById(
+            @PathVariable Long id,
+            @Valid @RequestBody ItemUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        ItemResponseDTO item = this.itemService.update(id, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(item.version())).body(item);
+    }
+
+    /**
+     * Applies many partial item updates, such as a catalogue-wide price change, in a single transaction.
+     * <p>
+     * Each row is validated on its own: invalid rows and unknown item IDs are reported in their
+     * result without preventing the valid rows from being applied.
+     * </p>
+     *
+     * @param dtos the list of item patches to apply
+     * @return a {@link ResponseEntity} containing one {@link ItemBatchResultDTO} per submitted row
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.BadRequestException if the batch is empty or too large
+     */
+    @PatchMapping("/batch")
+    public ResponseEntity<List<ItemBatchResultDTO>> updateItems(@RequestBody List<ItemPatchDTO> dtos) {
+        return ResponseEntity.ok(this.itemService.updateBatch(dtos));
     }
 
     /**
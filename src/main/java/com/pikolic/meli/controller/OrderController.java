@@ -1,15 +1,31 @@
 package com.pikolic.meli.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pikolic.meli.dto.order.OrderBatchResultDTO;
 import com.pikolic.meli.dto.order.OrderCreateDTO;
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
+import com.pikolic.meli.dto.order.OrderPageDTO;
 import com.pikolic.meli.dto.order.OrderResponseDTO;
 import com.pikolic.meli.dto.order.OrderUpdateDTO;
+import com.pikolic.meli.service.OrderEventService;
 import com.pikolic.meli.service.OrderService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -24,7 +40,13 @@ import java.util.List;
  * <p>Example endpoints:</p>
  * <ul>
  *     <li>{@code POST /api/v1/orders} – Create a new order</li>
+ *     <li>{@code POST /api/v1/orders/batch} – Create many orders in a single call</li>
  *     <li>{@code GET /api/v1/orders} – Retrieve all orders</li>
+ *     <li>{@code GET /api/v1/orders?after={id}&limit={n}} – Retrieve a keyset-paginated page of orders</li>
+ *     <li>{@code GET /api/v1/orders?from={date}&to={date}&cursor={cursor}&limit={n}} – Retrieve a keyset-paginated
+ *     page of the orders purchased within a date range</li>
+ *     <li>{@code GET /api/v1/orders/export} – Stream every order as newline-delimited JSON</li>
+ *     <li>{@code GET /api/v1/orders/events?since={seq}} – Subscribe to order changes as Server-Sent Events</li>
  *     <li>{@code GET /api/v1/orders/{id}} – Retrieve a specific order by ID</li>
  *     <li>{@code PUT /api/v1/orders/{id}} – Update an existing order</li>
  *     <li>{@code DELETE /api/v1/orders/{id}} – Delete an order by ID</li>
@@ -34,6 +56,7 @@ import java.util.List;
  *
  * @author Angel Lomelí
  * @see OrderService
+ * @see OrderEventService
  * @see OrderCreateDTO
  * @see OrderUpdateDTO
  * @see OrderResponseDTO
@@ -43,9 +66,18 @@ import java.util.List;
 @RequiredArgsConstructor
 class OrderController {
 
+    /** Number of exported orders written between two flushes of the response. */
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     /** Service layer responsible for handling order-related operations. */
     private final OrderService orderService;
 
+    /** Service publishing the order change events. */
+    private final OrderEventService orderEventService;
+
+    /** Mapper used to serialize exported orders straight to the response stream. */
+    private final ObjectMapper objectMapper;
+
     /**
      * Creates a new order.
      *
@@ -61,8 +93,30 @@ class OrderController {
                 .body(this.orderService.create(dto));
     }
 
+    /**
+     * Creates many orders in a single call.
+     * <p>
+     * Rows are validated one by one, so invalid rows are reported in the response
+     * instead of failing the whole request.
+     * </p>
+     *
+     * @param dtos the list of orders to create
+     * @return a {@link ResponseEntity} containing one {@link OrderBatchResultDTO} per submitted row
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.BadRequestException if the batch is empty or too large
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchResultDTO>> addOrders(@RequestBody List<OrderCreateDTO> dtos) {
+        return ResponseEntity.ok(this.orderService.createBatch(dtos));
+    }
+
     /**
      * Retrieves a specific order by its unique ID.
+     * <p>
+     * The response carries a strong {@code ETag} holding the order version, to be sent back in
+     * {@code If-Match} when updating the order. A matching {@code If-None-Match} yields an
+     * HTTP 304 (Not Modified) without a body.
+     * </p>
      *
      * @param id the ID of the order to retrieve
      * @return a {@link ResponseEntity} containing the requested {@link OrderResponseDTO}
@@ -71,7 +125,8 @@ class OrderController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponseDTO> getByItemId(@PathVariable Long id) {
-        return ResponseEntity.ok(this.orderService.getById(id));
+        OrderResponseDTO order = this.orderService.getById(id);
+        return ResponseEntity.ok().eTag(String.valueOf(order.version())).body(order);
     }
 
     /**
@@ -85,19 +140,134 @@ class OrderController {
         return ResponseEntity.ok(this.orderService.getAll());
     }
 
+    /**
+     * Retrieves a page of orders using keyset (cursor) pagination.
+     * <p>
+     * Selected when the {@code limit} query parameter is present. The response contains
+     * a {@code nextCursor} that must be sent as {@code after} to read the following page.
+     * </p>
+     *
+     * @param after the last order ID already read; omit it to start from the first order
+     * @param limit the maximum number of orders to return
+     * @return a {@link ResponseEntity} containing an {@link OrderPageDTO}
+     *         and an HTTP 200 (OK) status
+     */
+    @GetMapping(value = {"", "/"}, params = "limit")
+    public ResponseEntity<OrderPageDTO> getOrdersPage(@RequestParam(required = false) Long after, @RequestParam int limit) {
+        return ResponseEntity.ok(this.orderService.getPage(after, limit));
+    }
+
+    /**
+     * Retrieves a page of the orders purchased within a date range, using keyset pagination.
+     * <p>
+     * Selected when both {@code from} and {@code to} are present. Orders are sorted by purchase date,
+     * then ID; the response contains a {@code nextCursor} that must be sent as {@code cursor}, with the
+     * same range, to read the following page.
+     * </p>
+     *
+     * @param from   the first purchase date, inclusive, as {@code yyyy-MM-dd}
+     * @param to     the last purchase date, inclusive, as {@code yyyy-MM-dd}
+     * @param cursor the cursor returned with the previous page; omit it to start from the beginning
+     * @param limit  the maximum number of orders to return
+     * @return a {@link ResponseEntity} containing an {@link OrderDatePageDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.BadRequestException if the range is inverted or the cursor is invalid
+     */
+    @GetMapping(value = {"", "/"}, params = {"from", "to"})
+    public ResponseEntity<OrderDatePageDTO> getOrdersBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(this.orderService.getPageBetween(from, to, cursor, limit));
+    }
+
+    /**
+     * Exports every order as newline-delimited JSON ({@code application/x-ndjson}).
+     * <p>
+     * Each {@link OrderResponseDTO} is written to the response output stream as soon as it is
+     * read from the database, so the whole table is never held in memory. Headers are sent
+     * before the query starts and the stream is flushed periodically, so the first bytes
+     * reach the client immediately. When the client accepts gzip, Tomcat compresses the stream
+     * as it goes, and each flush sends the data compressed so far.
+     * </p>
+     *
+     * @param response the HTTP response the orders are written to
+     * @throws IOException if writing to the response fails
+     */
+    @GetMapping("/export")
+    public void exportOrders(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.flushBuffer();
+
+        ObjectWriter writer = this.objectMapper.writerFor(OrderResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            int[] written = {0};
+            this.orderService.forEachOrder(order -> {
+                try {
+                    writer.writeValue(generator, order);
+                    generator.writeRaw('\n');
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    /**
+     * Subscribes to the order change events as Server-Sent Events ({@code text/event-stream}).
+     * <p>
+     * Each event carries its stream position as {@code id}, its kind ({@code CREATED}, {@code UPDATED} or
+     * {@code DELETED}) as {@code event}, and an {@link com.pikolic.meli.dto.order.OrderEventDTO} as {@code data}.
+     * Events after {@code since} are replayed first; without it, only new events are sent. A reconnecting
+     * {@code EventSource} resumes from the {@code Last-Event-ID} it sends. When {@code since} is older than the
+     * retained events, the replay starts with a {@code RESET} event carrying the purged range as an
+     * {@link com.pikolic.meli.dto.order.OrderEventResetDTO}.
+     * </p>
+     *
+     * @param since       the last stream position already processed by the caller
+     * @param lastEventId the optional {@code Last-Event-ID} header, used when {@code since} is absent
+     * @return the {@link SseEmitter} the events are sent through
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return this.orderEventService.subscribe(since != null ? since : lastEventId);
+    }
+
     /**
      * Updates an existing order by its unique ID.
+     * <p>
+     * When {@code If-Match} carries the {@code ETag} of a previous read, the update is only applied
+     * if the order has not changed since. An update that races with another one is rejected with
+     * an HTTP 409 (Conflict). The response carries the {@code ETag} of the new version.
+     * </p>
      *
-     * @param id  the ID of the order to update
-     * @param dto the data transfer object containing the updated order details
+     * @param id      the ID of the order to update
+     * @param dto     the data transfer object containing the updated order details
+     * @param ifMatch the optional {@code If-Match} header
      * @return a {@link ResponseEntity} containing the updated {@link OrderResponseDTO}
      *         and an HTTP 200 (OK) status
      * @throws com.pikolic.meli.exception.NotFoundException if the order does not exist
+     * @throws com.pikolic.meli.exception.PreconditionFailedException if {@code If-Match} does not match the order version
      * @throws jakarta.validation.ConstraintViolationException if validation on {@code dto} fails
      */
     @PutMapping("/{id}")
-    public ResponseEntity<OrderResponseDTO> updateOrderById(@PathVariable Long id, @Valid @RequestBody OrderUpdateDTO dto) {
-        return ResponseEntity.ok(this.orderService.update(id, dto));
+    public ResponseEntity<OrderResponseDTO> updateOrderById(
+            @PathVariable Long id,
+            @Valid @RequestBody OrderUpdateDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        OrderResponseDTO order = this.orderService.update(id, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(order.version())).body(order);
     }
 
     /**
@@ -0,0 +1,98 @@
+package com.pikolic.meli.controller;
+
+import com.pikolic.meli.dto.report.ClientSpendDTO;
+import com.pikolic.meli.dto.report.DailyRevenueDTO;
+import com.pikolic.meli.dto.report.ItemSalesDTO;
+import com.pikolic.meli.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller exposing order aggregates in the Meli e-commerce API.
+ * <p>
+ * Every report is computed by the database with a single GROUP BY query,
+ * so analysts no longer need to download orders and sum them on their side.
+ * All operations are delegated to the {@link ReportService}.
+ * </p>
+ *
+ * <p><b>Base path:</b> {@code /api/v1/reports}</p>
+ *
+ * <p>Example endpoints:</p>
+ * <ul>
+ *     <li>{@code GET /api/v1/reports/clients} – Order count and total spend per client</li>
+ *     <li>{@code GET /api/v1/reports/clients/{clientId}} – Order count and total spend of a client</li>
+ *     <li>{@code GET /api/v1/reports/items} – Units sold and revenue per item</li>
+ *     <li>{@code GET /api/v1/reports/daily-revenue?from={date}&to={date}} – Order count and revenue per purchase day</li>
+ * </ul>
+ *
+ * @author Angel Lomelí
+ * @see ReportService
+ * @see ClientSpendDTO
+ * @see ItemSalesDTO
+ * @see DailyRevenueDTO
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reports")
+class ReportController {
+
+    /** Service layer responsible for computing order reports. */
+    private final ReportService reportService;
+
+    /**
+     * Retrieves the order count and total spend of every client that has placed orders.
+     *
+     * @return a {@link ResponseEntity} containing a list of {@link ClientSpendDTO}
+     *         and an HTTP 200 (OK) status
+     */
+    @GetMapping("/clients")
+    public ResponseEntity<List<ClientSpendDTO>> getSpendByClient() {
+        return ResponseEntity.ok(this.reportService.getSpendByClient());
+    }
+
+    /**
+     * Retrieves the order count and total spend of a single client.
+     *
+     * @param clientId the ID of the client
+     * @return a {@link ResponseEntity} containing the {@link ClientSpendDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.NotFoundException if the client does not exist
+     */
+    @GetMapping("/clients/{clientId}")
+    public ResponseEntity<ClientSpendDTO> getSpendForClient(@PathVariable Long clientId) {
+        return ResponseEntity.ok(this.reportService.getSpendForClient(clientId));
+    }
+
+    /**
+     * Retrieves the units sold and revenue of every item that has been ordered.
+     *
+     * @return a {@link ResponseEntity} containing a list of {@link ItemSalesDTO}
+     *         and an HTTP 200 (OK) status
+     */
+    @GetMapping("/items")
+    public ResponseEntity<List<ItemSalesDTO>> getSalesByItem() {
+        return ResponseEntity.ok(this.reportService.getSalesByItem());
+    }
+
+    /**
+     * Retrieves the order count and revenue of every purchase day in a date range.
+     *
+     * @param from the first day of the range (ISO date), inclusive
+     * @param to   the last day of the range (ISO date), inclusive
+     * @return a {@link ResponseEntity} containing a list of {@link DailyRevenueDTO}
+     *         and an HTTP 200 (OK) status
+     * @throws com.pikolic.meli.exception.BadRequestException if {@code from} is after {@code to}
+     */
+    @GetMapping("/daily-revenue")
+    public ResponseEntity<List<DailyRevenueDTO>> getRevenueByDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(this.reportService.getRevenueByDay(from, to));
+    }
+}
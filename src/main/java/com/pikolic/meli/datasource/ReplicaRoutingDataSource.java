@@ -0,0 +1,156 @@
+package com.pikolic.meli.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Data source sending read-only transactions to read replicas and everything else to the primary.
+ * <p>
+ * The routing decision is taken when a connection is first requested, from the read-only flag of the
+ * current Spring transaction. The connection must therefore be requested after the transaction has
+ * started, which is why this data source is always used behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ * </p>
+ *
+ * <p>
+ * Replicas are used in turn. A replica whose replication lag exceeds the allowed maximum, or whose lag
+ * cannot be read, stops serving reads until a later {@link #checkReplicationLag(String, Duration)} finds it
+ * caught up; when no replica is usable, reads go to the primary.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    /** Lookup key of the primary data source. */
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final AtomicReferenceArray<Boolean> usable;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary  the primary data source, used for writes and as fallback for reads
+     * @param replicas the replica data sources, in the order of their URLs
+     */
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.usable = new AtomicReferenceArray<>(this.replicas.size());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(replicaKey(i), this.replicas.get(i));
+            this.usable.set(i, true);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Picks the next usable replica for read-only transactions, or the primary otherwise.
+     *
+     * @return the lookup key of the chosen data source
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        int size = this.replicas.size();
+        int start = Math.floorMod(this.next.getAndIncrement(), size);
+        for (int offset = 0; offset < size; offset++) {
+            int index = (start + offset) % size;
+            if (this.usable.get(index)) {
+                return replicaKey(index);
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Reads the replication lag of every replica and updates which ones may serve reads.
+     *
+     * @param lagQuery the query returning the lag of a replica in seconds
+     * @param maxLag   the largest lag a replica may have and still serve reads
+     */
+    public void checkReplicationLag(String lagQuery, Duration maxLag) {
+        for (int i = 0; i < this.replicas.size(); i++) {
+            HikariDataSource replica = this.replicas.get(i);
+
+            boolean caughtUp;
+            try {
+                Duration lag = readLag(replica, lagQuery);
+                caughtUp = lag.compareTo(maxLag) <= 0;
+                if (!caughtUp && this.usable.get(i)) {
+                    log.warn("Replica {} is {} behind the primary; sending its reads to the primary", replica.getPoolName(), lag);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                caughtUp = false;
+                if (this.usable.get(i)) {
+                    log.warn("Could not read the replication lag of replica {}; sending its reads to the primary", replica.getPoolName(), ex);
+                }
+            }
+
+            if (caughtUp && !this.usable.get(i)) {
+                log.info("Replica {} caught up with the primary; serving reads again", replica.getPoolName());
+            }
+            this.usable.set(i, caughtUp);
+        }
+    }
+
+    /**
+     * Closes the primary and replica connection pools.
+     */
+    @Override
+    public void close() {
+        this.replicas.forEach(HikariDataSource::close);
+        this.primary.close();
+    }
+
+    /**
+     * Runs the lag query on a replica.
+     *
+     * @param replica  the replica to check
+     * @param lagQuery the query returning the lag in seconds
+     * @return the replication lag
+     * @throws SQLException if the query fails or returns no row
+     */
+    private static Duration readLag(DataSource replica, String lagQuery) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("Lag query returned no row");
+            }
+            return Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+        }
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pikolic.meli.datasource;
+
+import com.pikolic.meli.config.ReplicaProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically takes lagging replicas out of, or back into, the read rotation of a
+ * {@link ReplicaRoutingDataSource}.
+ *
+ * author Angel Lomelí
+ */
+@RequiredArgsConstructor
+public class ReplicationLagMonitor {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final ReplicaProperties replicaProperties;
+
+    /**
+     * Checks every replica against {@code meli.datasource.replicas.max-lag}.
+     * Runs every {@code meli.datasource.replicas.lag-check-interval}.
+     */
+    @Scheduled(fixedDelayString = "${meli.datasource.replicas.lag-check-interval:5s}")
+    public void check() {
+        this.replicaRoutingDataSource.checkReplicationLag(this.replicaProperties.lagQuery(), this.replicaProperties.maxLag());
+    }
+}
@@ -0,0 +1,56 @@
+package com.pikolic.meli.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a page of results read with page number and size.
+ * <p>
+ * {@code hasNext} tells whether a following page exists, so clients can page through results without
+ * a total. {@code total} is only filled in when the endpoint was asked to count the matching rows,
+ * since counting costs a full scan of the matches on large tables.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "items": [
+ *     { "id": 7, "name": "Coca-Cola", "description": "Coca-cola 600ml", "price": 25.5 }
+ *   ],
+ *   "page": 0,
+ *   "size": 20,
+ *   "hasNext": false,
+ *   "total": null
+ * }
+ * </pre>
+ *
+ * @param items   the results of the current page
+ * @param page    the zero-based number of the page
+ * @param size    the maximum number of results per page
+ * @param hasNext whether another page follows this one
+ * @param total   the number of results on all pages, or {@code null} if they were not counted
+ * @param <T>     the type of the results
+ *
+ * author Angel Lomelí
+ */
+public record PageDTO<T>(
+        List<T> items,
+        int page,
+        int size,
+        boolean hasNext,
+        Long total
+) {
+
+    /**
+     * Builds a page from a slice fetched with one row more than the page size, without a total.
+     *
+     * @param rows the rows read, at most {@code size + 1}
+     * @param page the zero-based number of the page
+     * @param size the maximum number of results per page
+     * @param <T>  the type of the results
+     * @return the page
+     */
+    public static <T> PageDTO<T> of(List<T> rows, int page, int size) {
+        boolean hasNext = rows.size() > size;
+        return new PageDTO<>(hasNext ? rows.subList(0, size) : rows, page, size, hasNext, null);
+    }
+}
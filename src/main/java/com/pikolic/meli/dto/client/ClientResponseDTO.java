@@ -1,5 +1,7 @@
 package com.pikolic.meli.dto.client;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Data Transfer Object (DTO) representing a client's data returned by the Meli e-commerce API.
  * <p>
@@ -24,6 +26,7 @@ package com.pikolic.meli.dto.client;
  * @param age      the client's age
  * @param email    the client's email address
  * @param address  the client's address
+ * @param version  the client version, sent as the {@code ETag} header rather than in the body
  *
  * @author Angel Lomelí
  */
@@ -32,5 +35,6 @@ public record ClientResponseDTO(
         String name,
         Integer age,
         String email,
-        String address
+        String address,
+        @JsonIgnore Long version
 ) {}
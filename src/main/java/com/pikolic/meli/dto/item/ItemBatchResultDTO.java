@@ -0,0 +1,56 @@
+package com.pikolic.meli.dto.item;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of one row of a bulk item update.
+ * <p>
+ * Results are returned in the same order as the submitted rows. A row either carries the
+ * updated item or an error message explaining why it was rejected; rejected rows do not
+ * prevent the valid ones from being applied.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * [
+ *   { "index": 0, "item": { "id": 2, "name": "Smartphone", "description": "Samsung Galaxy S24", "price": 849.99 }, "error": null },
+ *   { "index": 1, "item": null, "error": "No Item found with id 99" }
+ * ]
+ * </pre>
+ *
+ * @param index the position of the row in the submitted batch
+ * @param item  the updated item, or {@code null} if the row was rejected
+ * @param error the reason the row was rejected, or {@code null} if it was applied
+ *
+ * @see ItemPatchDTO
+ * @see ItemResponseDTO
+ * @see com.pikolic.meli.controller.ItemController
+ *
+ * author Angel Lomelí
+ */
+public record ItemBatchResultDTO(
+        int index,
+        ItemResponseDTO item,
+        String error
+) {
+
+    /**
+     * Creates the result of a row that was applied.
+     *
+     * @param index the position of the row in the batch
+     * @param item  the updated item
+     * @return the row result
+     */
+    public static ItemBatchResultDTO updated(int index, ItemResponseDTO item) {
+        return new ItemBatchResultDTO(index, item, null);
+    }
+
+    /**
+     * Creates the result of a row that was rejected.
+     *
+     * @param index the position of the row in the batch
+     * @param error the reason the row was rejected
+     * @return the row result
+     */
+    public static ItemBatchResultDTO rejected(int index, String error) {
+        return new ItemBatchResultDTO(index, null, error);
+    }
+}
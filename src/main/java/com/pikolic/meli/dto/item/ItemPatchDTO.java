@@ -0,0 +1,56 @@
+package com.pikolic.meli.dto.item;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Data Transfer Object (DTO) describing one row of a bulk item update in the Meli e-commerce API.
+ * <p>
+ * Identifies the item by {@code id} and carries the fields to change, like {@link ItemUpdateDTO};
+ * fields left out (or {@code null}) keep their current value.
+ * </p>
+ *
+ * <p>Example JSON request row:</p>
+ * <pre>
+ * {
+ *   "id": 2,
+ *   "price": 849.99
+ * }
+ * </pre>
+ *
+ * @param id          the ID of the item to update (required, must be positive)
+ * @param name        the new name of the item (optional, must not be blank if present)
+ * @param description the new description of the item (optional)
+ * @param price       the new price of the item (optional, must be positive if present)
+ *
+ * @see ItemUpdateDTO
+ * @see ItemBatchResultDTO
+ * @see com.pikolic.meli.controller.ItemController
+ *
+ * author Angel Lomelí
+ */
+public record ItemPatchDTO(
+        @NotNull(message = "id is required")
+        @Positive(message = "id must be positive")
+        Long id,
+
+        @Pattern(regexp = ".*\\S.*", message = "name must not be blank")
+        String name,
+
+        String description,
+
+        @Positive(message = "price must be positive")
+        Double price
+) {
+
+    /**
+     * Returns the changes of this row as an {@link ItemUpdateDTO}, so they can be applied with
+     * {@link com.pikolic.meli.mapper.ItemMapper#updateEntity}.
+     *
+     * @return the update DTO
+     */
+    public ItemUpdateDTO toUpdate() {
+        return new ItemUpdateDTO(name, description, price);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pikolic.meli.dto.item;
+
+/**
+ * Data Transfer Object (DTO) holding the query parameters of a filtered item listing.
+ * <p>
+ * Bound from the query string of {@code GET /api/v1/items}. Every parameter is optional, but the filtered
+ * listing is only selected when at least one is given; without any, the plain list of all items is returned.
+ * </p>
+ *
+ * <p>Example request:</p>
+ * <pre>
+ * GET /api/v1/items?minPrice=10&amp;maxPrice=50&amp;name=coca&amp;sort=price&amp;direction=desc&amp;page=0&amp;size=20&amp;count=true
+ * </pre>
+ *
+ * @param minPrice  the lowest price to include
+ * @param maxPrice  the highest price to include
+ * @param name      a prefix the item name must start with, ignoring case
+ * @param sort      the field to sort by: {@code id} (default), {@code name} or {@code price}
+ * @param direction the sort direction: {@code asc} (default) or {@code desc}
+ * @param page      the zero-based number of the page, {@code 0} by default
+ * @param size      the maximum number of items per page, 20 by default and at most 100
+ * @param count     whether to count the matching items; off by default, as counting scans every match
+ *
+ * @see ItemResponseDTO
+ * @see com.pikolic.meli.controller.ItemController
+ *
+ * author Angel Lomelí
+ */
+public record ItemQueryDTO(
+        Double minPrice,
+        Double maxPrice,
+        String name,
+        String sort,
+        String direction,
+        Integer page,
+        Integer size,
+        Boolean count
+) {}
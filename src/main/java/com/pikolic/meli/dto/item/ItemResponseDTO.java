@@ -1,5 +1,7 @@
 package com.pikolic.meli.dto.item;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Data Transfer Object (DTO) representing an item returned by the Meli e-commerce API.
  * <p>
@@ -21,6 +23,7 @@ package com.pikolic.meli.dto.item;
  * @param name        the name of the item
  * @param description a description providing details about the item
  * @param price       the price of the item
+ * @param version     the item version, sent as the {@code ETag} header rather than in the body
  *
  * @see ItemCreateDTO
  * @see ItemUpdateDTO
@@ -32,5 +35,6 @@ public record ItemResponseDTO(
         Long id,
         String name,
         String description,
-        Double price
+        Double price,
+        @JsonIgnore Long version
 ) {}
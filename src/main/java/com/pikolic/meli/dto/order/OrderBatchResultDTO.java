@@ -0,0 +1,56 @@
+package com.pikolic.meli.dto.order;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of one row of a bulk order creation.
+ * <p>
+ * Results are returned in the same order as the submitted rows. A row either carries the
+ * created order or an error message explaining why it was rejected; rejected rows do not
+ * prevent the valid ones from being created.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * [
+ *   { "index": 0, "order": { "id": 51, "client_id": 1, "item_id": 2, "purchaseDate": "2025-10-22", "total": 299.99 }, "error": null },
+ *   { "index": 1, "order": null, "error": "No Client found with id 99" }
+ * ]
+ * </pre>
+ *
+ * @param index the position of the row in the submitted batch
+ * @param order the created order, or {@code null} if the row was rejected
+ * @param error the reason the row was rejected, or {@code null} if it was created
+ *
+ * @see OrderCreateDTO
+ * @see OrderResponseDTO
+ * @see com.pikolic.meli.controller.OrderController
+ *
+ * author Angel Lomelí
+ */
+public record OrderBatchResultDTO(
+        int index,
+        OrderResponseDTO order,
+        String error
+) {
+
+    /**
+     * Creates the result of a row that was created.
+     *
+     * @param index the position of the row in the batch
+     * @param order the created order
+     * @return the row result
+     */
+    public static OrderBatchResultDTO created(int index, OrderResponseDTO order) {
+        return new OrderBatchResultDTO(index, order, null);
+    }
+
+    /**
+     * Creates the result of a row that was rejected.
+     *
+     * @param index the position of the row in the batch
+     * @param error the reason the row was rejected
+     * @return the row result
+     */
+    public static OrderBatchResultDTO rejected(int index, String error) {
+        return new OrderBatchResultDTO(index, null, error);
+    }
+}
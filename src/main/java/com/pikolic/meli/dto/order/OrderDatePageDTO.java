@@ -0,0 +1,36 @@
+package com.pikolic.meli.dto.order;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a keyset-paginated page of orders within a purchase date range.
+ * <p>
+ * Orders are returned by ascending purchase date, then ascending ID. To fetch the next page, send
+ * {@code nextCursor} back as the {@code cursor} query parameter together with the same range. A {@code null}
+ * cursor means there are no more orders in the range. The cursor holds the purchase date and ID of the
+ * last order of the page and should be treated as opaque.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "items": [
+ *     { "id": 41, "client_id": 1, "item_id": 2, "purchaseDate": "2025-10-01", "total": 299.99 },
+ *     { "id": 17, "client_id": 3, "item_id": 1, "purchaseDate": "2025-10-02", "total": 99.50 }
+ *   ],
+ *   "nextCursor": "2025-10-02:17"
+ * }
+ * </pre>
+ *
+ * @param items      the orders of the current page
+ * @param nextCursor the value to pass as {@code cursor} to read the next page, or {@code null} if this is the last page
+ *
+ * @see OrderResponseDTO
+ * @see com.pikolic.meli.controller.OrderController
+ *
+ * author Angel Lomelí
+ */
+public record OrderDatePageDTO(
+        List<OrderResponseDTO> items,
+        String nextCursor
+) {}
@@ -0,0 +1,41 @@
+package com.pikolic.meli.dto.order;
+
+import com.pikolic.meli.entity.OrderOutboxEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) representing a change of an order, sent on the order event stream.
+ * <p>
+ * Events are delivered in {@code seq} order. A consumer that reconnects with the last {@code seq} it
+ * processed receives every later event exactly once, as long as they are within the retention period.
+ * </p>
+ *
+ * <p>Example JSON data of an event:</p>
+ * <pre>
+ * {
+ *   "seq": 42,
+ *   "type": "UPDATED",
+ *   "orderId": 51,
+ *   "order": { "id": 51, "client_id": 1, "item_id": 2, "purchaseDate": "2025-10-22", "total": 299.99 },
+ *   "occurredAt": "2025-10-22T10:15:30.123"
+ * }
+ * </pre>
+ *
+ * @param seq        the position of the event in the stream
+ * @param type       the kind of change
+ * @param orderId    the ID of the changed order
+ * @param order      the order after the change, or {@code null} for deletions
+ * @param occurredAt when the change was made
+ *
+ * @see com.pikolic.meli.controller.OrderController
+ *
+ * author Angel Lomelí
+ */
+public record OrderEventDTO(
+        Long seq,
+        OrderOutboxEntity.Type type,
+        Long orderId,
+        OrderResponseDTO order,
+        LocalDateTime occurredAt
+) {}
@@ -0,0 +1,30 @@
+package com.pikolic.meli.dto.order;
+
+/**
+ * Data Transfer Object (DTO) sent as a {@code RESET} event on the order event stream when a replay starts
+ * before the oldest retained event.
+ * <p>
+ * The events in {@code [missedFrom, missedTo]} were deleted by the retention purge and are not replayed.
+ * A consumer that needs them must re-read the orders; the stream then continues after {@code missedTo},
+ * which is also the {@code id} of the event.
+ * </p>
+ *
+ * <p>Example JSON data of the event:</p>
+ * <pre>
+ * {
+ *   "missedFrom": 43,
+ *   "missedTo": 1200
+ * }
+ * </pre>
+ *
+ * @param missedFrom the first position that is no longer available
+ * @param missedTo   the last position that is no longer available
+ *
+ * @see com.pikolic.meli.controller.OrderController
+ *
+ * author Angel Lomelí
+ */
+public record OrderEventResetDTO(
+        Long missedFrom,
+        Long missedTo
+) {}
@@ -0,0 +1,35 @@
+package com.pikolic.meli.dto.order;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a keyset-paginated page of orders.
+ * <p>
+ * Orders are returned in ascending ID order. To fetch the next page, send
+ * {@code nextCursor} back as the {@code after} query parameter. A {@code null}
+ * cursor means there are no more orders to read.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "items": [
+ *     { "id": 41, "client_id": 1, "item_id": 2, "purchaseDate": "2025-10-22", "total": 299.99 },
+ *     { "id": 42, "client_id": 3, "item_id": 1, "purchaseDate": "2025-10-22", "total": 99.50 }
+ *   ],
+ *   "nextCursor": 42
+ * }
+ * </pre>
+ *
+ * @param items      the orders of the current page
+ * @param nextCursor the ID to pass as {@code after} to read the next page, or {@code null} if this is the last page
+ *
+ * @see OrderResponseDTO
+ * @see com.pikolic.meli.controller.OrderController
+ *
+ * author Angel Lomelí
+ */
+public record OrderPageDTO(
+        List<OrderResponseDTO> items,
+        Long nextCursor
+) {}
@@ -1,5 +1,7 @@
 package com.pikolic.meli.dto.order;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDate;
 
 /**
@@ -25,6 +27,7 @@ import java.time.LocalDate;
  * @param item_id      the ID of the item that was ordered
  * @param purchaseDate the date when the order was placed
  * @param total        the total amount of the order
+ * @param version      the order version, sent as the {@code ETag} header rather than in the body
  *
  * @see OrderCreateDTO
  * @see OrderCreateForClientDTO
@@ -39,5 +42,6 @@ public record OrderResponseDTO(
         Long client_id,
         Long item_id,
         LocalDate purchaseDate,
-        Double total
+        Double total,
+        @JsonIgnore Long version
 ) {}
@@ -0,0 +1,82 @@
+package com.pikolic.meli.dto.order;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) representing the state of an order accepted for asynchronous placement.
+ * <p>
+ * Returned with HTTP 202 (Accepted) when the order is queued, and by the status endpoint until the
+ * tracking entry expires. Once the order is stored, {@code orderId} holds its ID.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "trackingId": "3f1c6a52-5b0e-4a53-9a55-2f0b5c9e7d41",
+ *   "clientId": 1,
+ *   "status": "CREATED",
+ *   "orderId": 51,
+ *   "error": null
+ * }
+ * </pre>
+ *
+ * @param trackingId the identifier returned when the order was accepted
+ * @param clientId   the ID of the client who placed the order
+ * @param status     the placement status
+ * @param orderId    the ID of the stored order, or {@code null} until it is {@link Status#CREATED}
+ * @param error      the reason the order could not be stored, or {@code null} unless it {@link Status#FAILED}
+ *
+ * @see OrderCreateForClientDTO
+ * @see com.pikolic.meli.controller.ClientOrderController
+ *
+ * author Angel Lomelí
+ */
+public record OrderTrackingDTO(
+        UUID trackingId,
+        Long clientId,
+        Status status,
+        Long orderId,
+        String error
+) {
+
+    /** Placement status of an asynchronous order. */
+    public enum Status {
+        /** Accepted and waiting in the queue. */
+        PENDING,
+        /** Stored; {@code orderId} is set. */
+        CREATED,
+        /** Could not be stored; {@code error} explains why. */
+        FAILED
+    }
+
+    /**
+     * Creates the tracking entry of a newly accepted order.
+     *
+     * @param trackingId the tracking identifier
+     * @param clientId   the ID of the client
+     * @return the pending entry
+     */
+    public static OrderTrackingDTO pending(UUID trackingId, Long clientId) {
+        return new OrderTrackingDTO(trackingId, clientId, Status.PENDING, null, null);
+    }
+
+    /**
+     * Marks the order as stored.
+     *
+     * @param orderId the ID of the stored order
+     * @return the created entry
+     */
+    public OrderTrackingDTO created(Long orderId) {
+        return new OrderTrackingDTO(trackingId, clientId, Status.CREATED, orderId, null);
+    }
+
+    /**
+     * Marks the order as not stored.
+     *
+     * @param error the reason the order could not be stored
+     * @return the failed entry
+     */
+    public OrderTrackingDTO failed(String error) {
+        return new OrderTrackingDTO(trackingId, clientId, Status.FAILED, null, error);
+    }
+}
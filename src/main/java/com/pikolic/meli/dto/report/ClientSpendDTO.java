@@ -0,0 +1,27 @@
+package com.pikolic.meli.dto.report;
+
+/**
+ * Data Transfer Object (DTO) representing how much a client has spent, computed by the database.
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "clientId": 1,
+ *   "orderCount": 12,
+ *   "totalSpend": 3599.88
+ * }
+ * </pre>
+ *
+ * @param clientId   the ID of the client
+ * @param orderCount the number of orders placed by the client
+ * @param totalSpend the sum of the totals of those orders
+ *
+ * @see com.pikolic.meli.controller.ReportController
+ *
+ * author Angel Lomelí
+ */
+public record ClientSpendDTO(
+        Long clientId,
+        Long orderCount,
+        Double totalSpend
+) {}
@@ -0,0 +1,29 @@
+package com.pikolic.meli.dto.report;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) representing the revenue of a single purchase day, computed by the database.
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "day": "2025-10-22",
+ *   "orderCount": 87,
+ *   "revenue": 21534.13
+ * }
+ * </pre>
+ *
+ * @param day        the purchase date
+ * @param orderCount the number of orders placed that day
+ * @param revenue    the sum of the totals of those orders
+ *
+ * @see com.pikolic.meli.controller.ReportController
+ *
+ * author Angel Lomelí
+ */
+public record DailyRevenueDTO(
+        LocalDate day,
+        Long orderCount,
+        Double revenue
+) {}
@@ -0,0 +1,30 @@
+package com.pikolic.meli.dto.report;
+
+/**
+ * Data Transfer Object (DTO) representing the sales of an item, computed by the database.
+ * <p>
+ * Every order contains exactly one unit of its item, so {@code unitsSold} is the number of orders for the item.
+ * </p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "itemId": 2,
+ *   "unitsSold": 40,
+ *   "revenue": 9999.60
+ * }
+ * </pre>
+ *
+ * @param itemId    the ID of the item
+ * @param unitsSold the number of units sold
+ * @param revenue   the sum of the totals of the orders for the item
+ *
+ * @see com.pikolic.meli.controller.ReportController
+ *
+ * author Angel Lomelí
+ */
+public record ItemSalesDTO(
+        Long itemId,
+        Long unitsSold,
+        Double revenue
+) {}
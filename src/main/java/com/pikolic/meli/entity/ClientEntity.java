@@ -61,6 +61,14 @@ public class ClientEntity {
     /** The physical address of the client. Optional. */
     private String address;
 
+    /**
+     * Version incremented by Hibernate on every update. Guards concurrent updates and is
+     * exposed as the strong ETag of {@code GET /api/v1/clients/{id}}.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * List of orders associated with the client.
      * <p>
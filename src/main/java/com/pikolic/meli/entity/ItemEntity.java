@@ -57,6 +57,14 @@ public class ItemEntity {
     @Column(nullable = false)
     private Double price;
 
+    /**
+     * Version incremented by Hibernate on every update. Guards concurrent updates and is
+     * exposed as the strong ETag of {@code GET /api/v1/items/{id}}.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * List of orders that include this item.
      * <p>
@@ -19,6 +19,8 @@ import java.time.LocalDate;
  *         Each order is associated with exactly one client.</li>
  *     <li>{@link #item}: Many-to-one relationship with {@link ItemEntity}.
  *         Each order is associated with exactly one item.</li>
+ *     <li>Both associations are {@code LAZY}, so loading orders does not issue extra selects
+ *         for their client and item.</li>
  * </ul>
  *
  * <p>Lombok annotations:</p>
@@ -43,18 +45,28 @@ import java.time.LocalDate;
 @NoArgsConstructor
 public class OrderEntity {
 
-    /** Unique identifier for the order. Auto-generated by the database. */
+    /** Number of order IDs reserved per call to the {@code orders_seq} sequence. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Unique identifier for the order.
+     * <p>
+     * Generated from the {@code orders_seq} sequence with a pooled optimizer: Hibernate reserves
+     * {@value #ID_ALLOCATION_SIZE} IDs per sequence call, so inserts can be sent in JDBC batches.
+     * </p>
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    /** The client who placed the order. Cannot be null. */
-    @ManyToOne
+    /** The client who placed the order. Cannot be null. Loaded lazily; reading its ID does not hit the database. */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private ClientEntity client;
 
-    /** The item associated with the order. Cannot be null. */
-    @ManyToOne
+    /** The item associated with the order. Cannot be null. Loaded lazily; reading its ID does not hit the database. */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id", nullable = false)
     private ItemEntity item;
 
@@ -65,4 +77,12 @@ public class OrderEntity {
     /** The total amount of the order. Cannot be null. */
     @Column(nullable = false)
     private Double total;
+
+    /**
+     * Version incremented by Hibernate on every update. Concurrent updates of the same order are
+     * detected without row locks, and the version is exposed as the strong ETag of the order endpoints.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
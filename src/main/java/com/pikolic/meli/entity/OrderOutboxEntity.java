@@ -0,0 +1,77 @@
+package com.pikolic.meli.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity representing a change of an order, recorded in the {@code order_outbox} table.
+ * <p>
+ * A row is written in the same transaction as the change it describes, so an event exists if and only if
+ * the change was committed. The relay publishes unpublished rows and assigns them a {@link #seq}, the
+ * position of the event in the order event stream.
+ * </p>
+ *
+ * <p>
+ * Creations and updates carry a snapshot of the order; deletions only carry its ID.
+ * </p>
+ *
+ * @author Angel Lomelí
+ * @see OrderEntity
+ */
+@Entity
+@Table(name = "order_outbox")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderOutboxEntity {
+
+    /** Number of outbox IDs reserved per call to the {@code order_outbox_seq} sequence. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /** Kind of change recorded by an outbox row. */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /** Unique identifier of the row. Allocated in pooled blocks, so it does not follow commit order. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    /** Position in the event stream, assigned by the relay; {@code null} until the row is published. */
+    @Column(unique = true)
+    private Long seq;
+
+    /** The kind of change. Cannot be null. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private Type type;
+
+    /** The ID of the changed order. Cannot be null. */
+    @Column(nullable = false)
+    private Long orderId;
+
+    /** The client of the order after the change; {@code null} for deletions. */
+    private Long clientId;
+
+    /** The item of the order after the change; {@code null} for deletions. */
+    private Long itemId;
+
+    /** The purchase date of the order after the change; {@code null} for deletions. */
+    private LocalDate purchaseDate;
+
+    /** The total of the order after the change; {@code null} for deletions. */
+    private Double total;
+
+    /** When the change was recorded. Cannot be null. */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
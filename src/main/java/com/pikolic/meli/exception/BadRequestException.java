@@ -0,0 +1,35 @@
+package com.pikolic.meli.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a request is well-formed but cannot be accepted as sent.
+ * <p>
+ * This exception returns an HTTP 400 (Bad Request) status.
+ * </p>
+ *
+ * Example usage: sending a batch with more rows than the API accepts in a single call.
+ *
+ * author Angel Lomelí
+ */
+public class BadRequestException extends ApiExceptionBase {
+
+    /**
+     * Constructor with an error message.
+     *
+     * @param message the exception message
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the HTTP status for this exception.
+     *
+     * @return HTTP 400 Bad Request
+     */
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
@@ -1,5 +1,6 @@
 package com.pikolic.meli.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -21,6 +22,7 @@ import java.util.List;
  * <ul>
  *     <li>{@link ApiExceptionBase}: custom API exceptions with their HTTP status</li>
  *     <li>{@link MethodArgumentNotValidException}: validation errors (HTTP 400)</li>
+ *     <li>{@link OptimisticLockingFailureException}: concurrent updates of the same versioned entity (HTTP 409)</li>
  *     <li>{@link Exception}: generic exceptions (HTTP 500)</li>
  * </ul>
  *
@@ -58,6 +60,18 @@ class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "The resource was modified by another request. Reload it and try again",
+                request.getDescription(false).replace("uri=",""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
         ErrorResponse response = new ErrorResponse(
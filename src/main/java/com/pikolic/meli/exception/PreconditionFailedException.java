@@ -0,0 +1,35 @@
+package com.pikolic.meli.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a conditional request cannot be applied to the current state of a resource.
+ * <p>
+ * This exception returns an HTTP 412 (Precondition Failed) status.
+ * </p>
+ *
+ * Example usage: updating an order with an {@code If-Match} header that no longer matches its version.
+ *
+ * author Angel Lomelí
+ */
+public class PreconditionFailedException extends ApiExceptionBase {
+
+    /**
+     * Constructor with an error message.
+     *
+     * @param message the exception message
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the HTTP status for this exception.
+     *
+     * @return HTTP 412 Precondition Failed
+     */
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.PRECONDITION_FAILED;
+    }
+}
@@ -0,0 +1,35 @@
+package com.pikolic.meli.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when the server cannot take more work right now and the client should retry later.
+ * <p>
+ * This exception returns an HTTP 429 (Too Many Requests) status.
+ * </p>
+ *
+ * Example usage: placing an order while the asynchronous order queue is full.
+ *
+ * author Angel Lomelí
+ */
+public class TooManyRequestsException extends ApiExceptionBase {
+
+    /**
+     * Constructor with an error message.
+     *
+     * @param message the exception message
+     */
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns the HTTP status for this exception.
+     *
+     * @return HTTP 429 Too Many Requests
+     */
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pikolic.meli.logging;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the service method being executed in the logging MDC.
+ * <p>
+ * Every log event written while a service method runs, including slow-query events, carries the
+ * {@link #MDC_KEY} entry, e.g. {@code ClientOrderServiceImpl.getOrdersByClientId}. Nested service
+ * calls override the entry for their duration and restore the caller's value afterwards.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Aspect
+@Component
+public class ServiceMethodMdcAspect {
+
+    /** MDC key holding {@code SimpleClassName.method} of the running service method. */
+    public static final String MDC_KEY = "serviceMethod";
+
+    /**
+     * Sets the MDC entry around a service method.
+     *
+     * @param joinPoint the service method invocation
+     * @return the service method result
+     * @throws Throwable anything thrown by the service method
+     */
+    @Around("within(com.pikolic.meli.service.impl..*)")
+    public Object recordServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = MDC.get(MDC_KEY);
+        MDC.put(MDC_KEY, joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                MDC.remove(MDC_KEY);
+            } else {
+                MDC.put(MDC_KEY, previous);
+            }
+        }
+    }
+}
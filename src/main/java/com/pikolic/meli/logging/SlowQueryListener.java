@@ -0,0 +1,107 @@
+package com.pikolic.meli.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * datasource-proxy listener that logs statements slower than a threshold.
+ * <p>
+ * Each slow statement produces one WARN event on the {@link #LOGGER_NAME} logger with the
+ * following key-value pairs, next to the {@link ServiceMethodMdcAspect#MDC_KEY} MDC entry
+ * identifying the service method that issued it:
+ * </p>
+ * <ul>
+ *     <li>{@code elapsedMs}: execution time in milliseconds</li>
+ *     <li>{@code success}: whether the statement completed without an exception</li>
+ *     <li>{@code batchSize}: number of parameter sets sent in one JDBC batch</li>
+ *     <li>{@code sql}: the statement text</li>
+ *     <li>{@code params}: the bind parameters, one list per parameter set</li>
+ * </ul>
+ *
+ * <p>Example event (logstash format):</p>
+ * <pre>
+ * {"level":"WARN","logger_name":"com.pikolic.meli.sql.slow","message":"Slow query",
+ *  "serviceMethod":"OrderServiceImpl.getAll","elapsedMs":812,"success":true,"batchSize":0,
+ *  "sql":"select o1_0.id,... from orders o1_0 order by o1_0.id","params":"[]"}
+ * </pre>
+ *
+ * author Angel Lomelí
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    /** Name of the logger slow statements are written to. */
+    public static final String LOGGER_NAME = "com.pikolic.meli.sql.slow";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final long thresholdMillis;
+
+    /**
+     * Creates a listener logging statements that take at least {@code threshold}.
+     *
+     * @param threshold the minimum execution time of a logged statement
+     */
+    public SlowQueryListener(Duration threshold) {
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    /**
+     * Logs the statement if it ran for at least the threshold.
+     *
+     * @param execInfo      timing and outcome of the execution
+     * @param queryInfoList the executed statements with their bind parameters
+     */
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < this.thresholdMillis || !log.isWarnEnabled()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            log.atWarn()
+                    .addKeyValue("elapsedMs", execInfo.getElapsedTime())
+                    .addKeyValue("success", execInfo.isSuccess())
+                    .addKeyValue("batchSize", execInfo.getBatchSize())
+                    .addKeyValue("sql", queryInfo.getQuery())
+                    .addKeyValue("params", formatParameters(queryInfo))
+                    .log("Slow query");
+        }
+    }
+
+    /**
+     * Renders the bind parameters of a statement in parameter-index order.
+     *
+     * @param queryInfo the executed statement
+     * @return the parameter sets, e.g. {@code [[1, 2025-10-22]]}
+     */
+    private static String formatParameters(QueryInfo queryInfo) {
+        return queryInfo.getParametersList().stream()
+                .filter(operations -> !operations.isEmpty())
+                .map(operations -> operations.stream()
+                        .sorted(Comparator.comparing(operation -> String.valueOf(operation.getArgs()[0]),
+                                Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder())))
+                        .map(SlowQueryListener::formatValue)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String formatValue(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+        Object[] args = operation.getArgs();
+        return args.length > 1 ? String.valueOf(args[1]) : "";
+    }
+}
@@ -68,7 +68,8 @@ public class ClientMapper {
                 entity.getName(),
                 entity.getAge(),
                 entity.getEmail(),
-                entity.getAddress()
+                entity.getAddress(),
+                entity.getVersion()
         );
     }
 }
@@ -65,7 +65,8 @@ public class ItemMapper {
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
-                entity.getPrice()
+                entity.getPrice(),
+                entity.getVersion()
         );
     }
 }
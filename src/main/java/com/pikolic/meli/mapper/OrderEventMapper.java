@@ -0,0 +1,69 @@
+package com.pikolic.meli.mapper;
+
+import com.pikolic.meli.dto.order.OrderEventDTO;
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import com.pikolic.meli.entity.OrderEntity;
+import com.pikolic.meli.entity.OrderOutboxEntity;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mapper class for converting order changes to {@link OrderOutboxEntity} rows and back to {@link OrderEventDTO}.
+ *
+ * author Angel Lomelí
+ */
+@NoArgsConstructor
+public class OrderEventMapper {
+
+    /**
+     * Creates the outbox row of a created or updated order, holding a snapshot of it.
+     *
+     * @param order the order after the change
+     * @param type  the kind of change
+     * @return the outbox row
+     */
+    public static OrderOutboxEntity toOutbox(OrderEntity order, OrderOutboxEntity.Type type) {
+        return OrderOutboxEntity.builder()
+                .type(type)
+                .orderId(order.getId())
+                .clientId(order.getClient().getId())
+                .itemId(order.getItem().getId())
+                .purchaseDate(order.getPurchaseDate())
+                .total(order.getTotal())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Creates the outbox row of a deleted order.
+     *
+     * @param orderId the ID of the deleted order
+     * @return the outbox row
+     */
+    public static OrderOutboxEntity toDeletedOutbox(Long orderId) {
+        return OrderOutboxEntity.builder()
+                .type(OrderOutboxEntity.Type.DELETED)
+                .orderId(orderId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Converts a published outbox row to an event.
+     *
+     * @param entity the published outbox row
+     * @return the event
+     */
+    public static OrderEventDTO toEvent(OrderOutboxEntity entity) {
+        OrderResponseDTO order = entity.getType() == OrderOutboxEntity.Type.DELETED ? null : new OrderResponseDTO(
+                entity.getOrderId(),
+                entity.getClientId(),
+                entity.getItemId(),
+                entity.getPurchaseDate(),
+                entity.getTotal(),
+                null
+        );
+        return new OrderEventDTO(entity.getSeq(), entity.getType(), entity.getOrderId(), order, entity.getCreatedAt());
+    }
+}
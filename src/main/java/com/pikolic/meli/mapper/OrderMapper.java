@@ -87,7 +87,8 @@ public class OrderMapper {
                 entity.getClient().getId(),
                 entity.getItem().getId(),
                 entity.getPurchaseDate(),
-                entity.getTotal()
+                entity.getTotal(),
+                entity.getVersion()
         );
     }
 }
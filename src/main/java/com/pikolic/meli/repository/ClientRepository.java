@@ -2,6 +2,11 @@ package com.pikolic.meli.repository;
 
 import com.pikolic.meli.entity.ClientEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.Set;
 
 /**
  * Repository interface for accessing {@link ClientEntity} data.
@@ -10,7 +15,40 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * for clients, such as save, findById, findAll, delete, etc.
  * </p>
  *
+ * <p>
+ * Additional query methods:
+ * <ul>
+ *     <li>{@link #findExistingIds(Collection)}: checks which of the given IDs exist, in a single query</li>
+ *     <li>{@link #deleteClientById(Long)}: deletes a client with a single statement, without loading it</li>
+ * </ul>
+ * </p>
+ *
  * author Angel Lomelí
  */
 public interface ClientRepository extends JpaRepository<ClientEntity, Long> {
+
+    /**
+     * Returns which of the given client IDs exist, using a single {@code IN} query
+     * that reads only the primary key.
+     *
+     * @param ids the client IDs to check
+     * @return the subset of {@code ids} that exist
+     */
+    @Query("select c.id from ClientEntity c where c.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Deletes a client with a single {@code DELETE ... WHERE id = ?}, without loading it.
+     * <p>
+     * Bypasses the {@code orders} cascade, so the caller must delete the dependent orders first.
+     * The persistence context is flushed before and cleared after the statement.
+     * Must run inside a transaction.
+     * </p>
+     *
+     * @param id the ID of the client
+     * @return the number of deleted clients, 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ClientEntity c where c.id = :id")
+    int deleteClientById(Long id);
 }
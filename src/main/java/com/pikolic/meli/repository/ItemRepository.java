@@ -1,16 +1,96 @@
 package com.pikolic.meli.repository;
 
+import com.pikolic.meli.dto.item.ItemResponseDTO;
 import com.pikolic.meli.entity.ItemEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing {@link ItemEntity} data.
  * <p>
  * Extends {@link JpaRepository} to provide standard CRUD operations
- * for items, such as save, findById, findAll, delete, etc.
+ * for items, such as save, findById, findAll, delete, etc., and {@link JpaSpecificationExecutor}
+ * to run listings filtered with {@link ItemSpecifications}.
+ * </p>
+ *
+ * <p>
+ * Additional query methods:
+ * <ul>
+ *     <li>{@link #findExistingIds(Collection)}: checks which of the given IDs exist, in a single query</li>
+ *     <li>{@link #deleteItemById(Long)}: deletes a item with a single statement, without loading it</li>
+ *     <li>{@link #streamAllResponses()}: streams every item projection through a JDBC cursor</li>
+ *     <li>{@link #search(String, int, int)}: PostgreSQL full-text search over name and description</li>
+ * </ul>
  * </p>
  *
  * author Angel Lomelí
  */
-public interface ItemRepository extends JpaRepository<ItemEntity, Long> {
+public interface ItemRepository extends JpaRepository<ItemEntity, Long>, JpaSpecificationExecutor<ItemEntity> {
+
+    /**
+     * Returns which of the given item IDs exist, using a single {@code IN} query
+     * that reads only the primary key.
+     *
+     * @param ids the item IDs to check
+     * @return the subset of {@code ids} that exist
+     */
+    @Query("select i.id from ItemEntity i where i.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Deletes a item with a single {@code DELETE ... WHERE id = ?}, without loading it.
+     * <p>
+     * Bypasses the {@code orders} cascade, so the caller must delete the dependent orders first.
+     * The persistence context is flushed before and cleared after the statement.
+     * Must run inside a transaction.
+     * </p>
+     *
+     * @param id the ID of the item
+     * @return the number of deleted items, 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ItemEntity i where i.id = :id")
+    int deleteItemById(Long id);
+
+    /**
+     * Streams every item projection in ascending ID order.
+     * <p>
+     * Rows are read through a JDBC cursor with a fixed fetch size and are not managed by the
+     * persistence context. The returned stream must be consumed inside a transaction and closed afterwards.
+     * </p>
+     *
+     * @return stream of all item projections
+     */
+    @Query("select new com.pikolic.meli.dto.item.ItemResponseDTO(i.id, i.name, i.description, i.price, i.version) "
+            + "from ItemEntity i order by i.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + OrderRepository.STREAM_FETCH_SIZE))
+    Stream<ItemResponseDTO> streamAllResponses();
+
+    /**
+     * Finds the items whose generated {@code search_vector} matches a {@code tsquery}, best match first.
+     * <p>
+     * PostgreSQL only: the column and its GIN index are created by a PostgreSQL-specific migration.
+     * </p>
+     *
+     * @param tsquery the query, in {@code to_tsquery} syntax
+     * @param offset  the number of matches to skip
+     * @param limit   the maximum number of matches to return
+     * @return the matching items
+     */
+    @Query(value = "SELECT i.id, i.name, i.description, i.price, i.version FROM item i "
+            + "WHERE i.search_vector @@ to_tsquery('simple', :tsquery) "
+            + "ORDER BY ts_rank(i.search_vector, to_tsquery('simple', :tsquery)) DESC, i.id "
+            + "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ItemEntity> search(String tsquery, int offset, int limit);
 }
@@ -0,0 +1,67 @@
+package com.pikolic.meli.repository;
+
+import com.pikolic.meli.entity.ItemEntity;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * {@link Specification} factories for filtering {@link ItemEntity} queries.
+ * <p>
+ * Each factory returns a no-op specification when its argument is {@code null}, so the filters of a
+ * request can be combined with {@link Specification#and(Specification)} whether or not they were sent.
+ * The predicates only compare indexed columns, and a name prefix becomes a {@code LIKE 'prefix%'},
+ * which a B-tree index can answer with a range scan.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@NoArgsConstructor
+public class ItemSpecifications {
+
+    /** Escape character of the {@code LIKE} patterns built from user input. */
+    private static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Matches the items whose price is at least {@code min}.
+     *
+     * @param min the lowest price, or {@code null} for no bound
+     * @return the specification
+     */
+    public static Specification<ItemEntity> priceAtLeast(Double min) {
+        return (root, query, cb) -> min == null ? null : cb.greaterThanOrEqualTo(root.get("price"), min);
+    }
+
+    /**
+     * Matches the items whose price is at most {@code max}.
+     *
+     * @param max the highest price, or {@code null} for no bound
+     * @return the specification
+     */
+    public static Specification<ItemEntity> priceAtMost(Double max) {
+        return (root, query, cb) -> max == null ? null : cb.lessThanOrEqualTo(root.get("price"), max);
+    }
+
+    /**
+     * Matches the items whose name starts with {@code prefix}, ignoring case.
+     * <p>
+     * {@code %} and {@code _} in the prefix are matched literally.
+     * </p>
+     *
+     * @param prefix the prefix, or {@code null} for no filter
+     * @return the specification
+     */
+    public static Specification<ItemEntity> nameStartsWith(String prefix) {
+        return (root, query, cb) -> {
+            if (prefix == null || prefix.isEmpty()) {
+                return null;
+            }
+            String pattern = prefix.toLowerCase(Locale.ROOT)
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_") + "%";
+            return cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+        };
+    }
+}
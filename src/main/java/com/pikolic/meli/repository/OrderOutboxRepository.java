@@ -0,0 +1,129 @@
+package com.pikolic.meli.repository;
+
+import com.pikolic.meli.entity.OrderOutboxEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for accessing {@link OrderOutboxEntity} data.
+ * <p>
+ * Additional query methods:
+ * <ul>
+ *     <li>{@link #findUnpublished(Limit)}: rows not yet assigned a stream position, oldest first</li>
+ *     <li>{@link #findLastSeq()} / {@link #lockLastSeq()} / {@link #updateLastSeq(long)}: the last assigned stream
+ *     position, kept in the {@code order_event_position} row, which the retention purge never deletes</li>
+ *     <li>{@link #findPublishedAfter(Long, Limit)}: published rows after a stream position, for replays</li>
+ *     <li>{@link #findFirstPublishedSeq()}: the oldest stream position still retained, to detect purged replays</li>
+ *     <li>{@link #insertDeletedForClient(Long)} / {@link #insertDeletedForItem(Long)}: set-based deletion events
+ *     for every order of a client or item, written without loading the orders</li>
+ *     <li>{@link #deletePublishedBefore(LocalDateTime)}: retention purge</li>
+ * </ul>
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEntity, Long> {
+
+    /**
+     * Finds the rows the relay has not published yet, in ID order.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the unpublished rows
+     */
+    @Query("select e from OrderOutboxEntity e where e.seq is null order by e.id")
+    List<OrderOutboxEntity> findUnpublished(Limit limit);
+
+    /**
+     * Finds the last stream position assigned by the relay.
+     *
+     * @return the last assigned {@code seq}, or {@code 0} if nothing was published yet
+     */
+    @Query(value = "SELECT last_seq FROM order_event_position WHERE id = 1", nativeQuery = true)
+    long findLastSeq();
+
+    /**
+     * Finds the last stream position assigned by the relay and locks it until the transaction ends,
+     * so that a single relay numbers rows at a time, across all instances.
+     * Must run inside a transaction.
+     *
+     * @return the last assigned {@code seq}, or {@code 0} if nothing was published yet
+     */
+    @Query(value = "SELECT last_seq FROM order_event_position WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    long lockLastSeq();
+
+    /**
+     * Records the last stream position assigned by the relay.
+     * Must run inside a transaction, after {@link #lockLastSeq()}.
+     *
+     * @param seq the last assigned {@code seq}
+     * @return the number of updated rows, always 1
+     */
+    @Modifying
+    @Query(value = "UPDATE order_event_position SET last_seq = :seq WHERE id = 1", nativeQuery = true)
+    int updateLastSeq(long seq);
+
+    /**
+     * Finds published rows after a stream position, in stream order.
+     *
+     * @param seq   the last position already seen by the caller
+     * @param limit the maximum number of rows to return
+     * @return the published rows after {@code seq}
+     */
+    @Query("select e from OrderOutboxEntity e where e.seq > :seq order by e.seq")
+    List<OrderOutboxEntity> findPublishedAfter(Long seq, Limit limit);
+
+    /**
+     * Finds the oldest stream position not deleted by the retention purge.
+     *
+     * @return the lowest published {@code seq}, or {@code null} if no published row is left
+     */
+    @Query("select min(e.seq) from OrderOutboxEntity e where e.seq is not null")
+    Long findFirstPublishedSeq();
+
+    /**
+     * Records a deletion event for every order of a client with a single {@code INSERT ... SELECT}.
+     * Must run inside a transaction, before the orders are deleted.
+     * <p>
+     * Each row takes its own value of {@code order_outbox_seq}. Those values are the upper bounds of blocks
+     * Hibernate never reserved, so they cannot collide with IDs allocated by the pooled optimizer.
+     * </p>
+     *
+     * @param clientId the ID of the client
+     * @return the number of recorded events
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO order_outbox (id, event_type, order_id, created_at) "
+            + "SELECT nextval('order_outbox_seq'), 'DELETED', o.id, LOCALTIMESTAMP FROM orders o WHERE o.client_id = :clientId",
+            nativeQuery = true)
+    int insertDeletedForClient(Long clientId);
+
+    /**
+     * Records a deletion event for every order of an item with a single {@code INSERT ... SELECT}.
+     * Must run inside a transaction, before the orders are deleted.
+     *
+     * @param itemId the ID of the item
+     * @return the number of recorded events
+     * @see #insertDeletedForClient(Long)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO order_outbox (id, event_type, order_id, created_at) "
+            + "SELECT nextval('order_outbox_seq'), 'DELETED', o.id, LOCALTIMESTAMP FROM orders o WHERE o.item_id = :itemId",
+            nativeQuery = true)
+    int insertDeletedForItem(Long itemId);
+
+    /**
+     * Deletes the published rows recorded before a point in time.
+     * Must run inside a transaction.
+     *
+     * @param createdBefore rows recorded before this instant are deleted
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("delete from OrderOutboxEntity e where e.seq is not null and e.createdAt < :createdBefore")
+    int deletePublishedBefore(LocalDateTime createdBefore);
+}
@@ -1,9 +1,22 @@
 package com.pikolic.meli.repository;
 
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import com.pikolic.meli.dto.report.ClientSpendDTO;
+import com.pikolic.meli.dto.report.DailyRevenueDTO;
+import com.pikolic.meli.dto.report.ItemSalesDTO;
 import com.pikolic.meli.entity.OrderEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing {@link OrderEntity} data.
@@ -13,9 +26,29 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * Read queries project straight into {@link OrderResponseDTO}, selecting only the
+ * order columns and the client/item foreign keys. Each listing is therefore a single
+ * SQL statement, with no extra selects for the associated client and item.
+ * </p>
+ *
+ * <p>
  * Additional query methods:
  * <ul>
- *     <li>{@link #findOrdersByClientId(Long)}: retrieves all orders for a given client ID</li>
+ *     <li>{@link #findResponseById(Long)}: retrieves a single order projection by ID</li>
+ *     <li>{@link #findAllResponses()}: retrieves every order projection</li>
+ *     <li>{@link #findResponsesByClientId(Long)}: retrieves all order projections for a given client ID</li>
+ *     <li>{@link #findResponseByIdAndClientId(Long, Long)} / {@link #findByIdAndClientId(Long, Long)} /
+ *     {@link #deleteByIdAndClientId(Long, Long)}: read, load or delete an order only if it belongs to a client</li>
+ *     <li>{@link #deleteOrderById(Long)} / {@link #deleteOrdersByClientId(Long)} / {@link #deleteOrdersByItemId(Long)}:
+ *     set-based deletes that never load the orders</li>
+ *     <li>{@link #findResponsesAfter(Long, Limit)}: retrieves a keyset page of order projections after a given ID</li>
+ *     <li>{@link #findResponsesBetween(LocalDate, LocalDate, LocalDate, Long, Limit)} /
+ *     {@link #findResponsesByClientIdBetween(Long, LocalDate, LocalDate, LocalDate, Long, Limit)}: retrieve a keyset
+ *     page of order projections within a purchase date range, after a given (purchase date, ID) position</li>
+ *     <li>{@link #streamAllResponses()}: streams every order projection through a JDBC cursor</li>
+ *     <li>{@link #sumSpendByClient()} / {@link #sumSpendForClient(Long)}: order count and total spend per client</li>
+ *     <li>{@link #sumSalesByItem()}: units sold and revenue per item</li>
+ *     <li>{@link #sumRevenueByDay(LocalDate, LocalDate)}: order count and revenue per purchase day</li>
  * </ul>
  * </p>
  *
@@ -23,11 +56,212 @@ import java.util.List;
  */
 public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
 
+    /** Number of rows the JDBC driver fetches per round-trip when streaming orders. */
+    int STREAM_FETCH_SIZE = 1000;
+
+    /** JPQL select clause projecting an order row into an {@link OrderResponseDTO}. */
+    String RESPONSE_PROJECTION = "select new com.pikolic.meli.dto.order.OrderResponseDTO("
+            + "o.id, o.client.id, o.item.id, o.purchaseDate, o.total, o.version) from OrderEntity o";
+
+    /**
+     * Finds a single order projection by its ID.
+     *
+     * @param id the ID of the order
+     * @return the order projection, or empty if it does not exist
+     */
+    @Query(RESPONSE_PROJECTION + " where o.id = :id")
+    Optional<OrderResponseDTO> findResponseById(Long id);
+
+    /**
+     * Finds every order projection in ascending ID order.
+     *
+     * @return list of all order projections
+     */
+    @Query(RESPONSE_PROJECTION + " order by o.id")
+    List<OrderResponseDTO> findAllResponses();
+
+    /**
+     * Finds all order projections associated with a specific client.
+     *
+     * @param clientId the ID of the client
+     * @return list of order projections for the given client
+     */
+    @Query(RESPONSE_PROJECTION + " where o.client.id = :clientId order by o.id")
+    List<OrderResponseDTO> findResponsesByClientId(Long clientId);
+
     /**
-     * Finds all orders associated with a specific client.
+     * Finds an order projection by its ID, only if it belongs to the given client.
+     * <p>
+     * Checks ownership in the same indexed lookup that reads the order.
+     * </p>
+     *
+     * @param orderId  the ID of the order
+     * @param clientId the ID of the client that must own the order
+     * @return the order projection, or empty if the order does not exist or belongs to another client
+     */
+    @Query(RESPONSE_PROJECTION + " where o.id = :orderId and o.client.id = :clientId")
+    Optional<OrderResponseDTO> findResponseByIdAndClientId(Long orderId, Long clientId);
+
+    /**
+     * Loads an order entity by its ID, only if it belongs to the given client.
+     *
+     * @param id       the ID of the order
+     * @param clientId the ID of the client that must own the order
+     * @return the order, or empty if the order does not exist or belongs to another client
+     */
+    Optional<OrderEntity> findByIdAndClientId(Long id, Long clientId);
+
+    /**
+     * Deletes an order with a single statement, only if it belongs to the given client.
+     * Must run inside a transaction.
+     *
+     * @param orderId  the ID of the order
+     * @param clientId the ID of the client that must own the order
+     * @return the number of deleted orders, 0 or 1
+     */
+    @Modifying
+    @Query("delete from OrderEntity o where o.id = :orderId and o.client.id = :clientId")
+    int deleteByIdAndClientId(Long orderId, Long clientId);
+
+    /**
+     * Deletes an order with a single {@code DELETE ... WHERE id = ?}, without loading it.
+     * The persistence context is flushed before and cleared after the statement.
+     * Must run inside a transaction.
+     *
+     * @param id the ID of the order
+     * @return the number of deleted orders, 0 or 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OrderEntity o where o.id = :id")
+    int deleteOrderById(Long id);
+
+    /**
+     * Deletes every order of a client with a single statement, without loading them.
+     * Must run inside a transaction.
      *
      * @param clientId the ID of the client
-     * @return list of orders for the given client
+     * @return the number of deleted orders
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from OrderEntity o where o.client.id = :clientId")
+    int deleteOrdersByClientId(Long clientId);
+
+    /**
+     * Deletes every order of an item with a single statement, without loading them.
+     * Must run inside a transaction.
+     *
+     * @param itemId the ID of the item
+     * @return the number of deleted orders
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from OrderEntity o where o.item.id = :itemId")
+    int deleteOrdersByItemId(Long itemId);
+
+    /**
+     * Finds the order projections whose ID is greater than the given cursor, in ascending ID order.
+     * <p>
+     * Seeks on the primary key index instead of using OFFSET, so the cost of a page
+     * does not depend on how deep the client has paged.
+     * </p>
+     *
+     * @param after the last order ID already read by the caller
+     * @param limit the maximum number of orders to return
+     * @return list of order projections after the cursor
+     */
+    @Query(RESPONSE_PROJECTION + " where o.id > :after order by o.id")
+    List<OrderResponseDTO> findResponsesAfter(Long after, Limit limit);
+
+    /**
+     * Finds the order projections purchased within a date range, after a given position,
+     * in ascending (purchase date, ID) order.
+     * <p>
+     * Reads a range of the {@code (purchase_date, id)} index in index order, so neither the rows
+     * outside the range nor those before the position are visited, and no sort is needed.
+     * </p>
+     *
+     * @param from      the first purchase date, inclusive
+     * @param to        the last purchase date, inclusive
+     * @param afterDate the purchase date of the last order already read
+     * @param afterId   the ID of the last order already read
+     * @param limit     the maximum number of orders to return
+     * @return list of order projections after the position
+     */
+    @Query(RESPONSE_PROJECTION + " where o.purchaseDate between :from and :to"
+            + " and (o.purchaseDate, o.id) > (:afterDate, :afterId) order by o.purchaseDate, o.id")
+    List<OrderResponseDTO> findResponsesBetween(LocalDate from, LocalDate to, LocalDate afterDate, Long afterId, Limit limit);
+
+    /**
+     * Finds the order projections of a client purchased within a date range, after a given position,
+     * in ascending (purchase date, ID) order.
+     * <p>
+     * Reads a range of the {@code (client_id, purchase_date, id)} index in index order.
+     * </p>
+     *
+     * @param clientId  the ID of the client
+     * @param from      the first purchase date, inclusive
+     * @param to        the last purchase date, inclusive
+     * @param afterDate the purchase date of the last order already read
+     * @param afterId   the ID of the last order already read
+     * @param limit     the maximum number of orders to return
+     * @return list of order projections after the position
+     */
+    @Query(RESPONSE_PROJECTION + " where o.client.id = :clientId and o.purchaseDate between :from and :to"
+            + " and (o.purchaseDate, o.id) > (:afterDate, :afterId) order by o.purchaseDate, o.id")
+    List<OrderResponseDTO> findResponsesByClientIdBetween(Long clientId, LocalDate from, LocalDate to,
+                                                          LocalDate afterDate, Long afterId, Limit limit);
+
+    /**
+     * Streams every order projection in ascending ID order.
+     * <p>
+     * Rows are read through a JDBC cursor with a fixed fetch size instead of being
+     * loaded into a list. Projections are not managed by the persistence context,
+     * so memory use does not grow with the size of the table.
+     * The returned stream must be consumed inside a transaction and closed afterwards.
+     * </p>
+     *
+     * @return stream of all order projections
+     */
+    @Query(RESPONSE_PROJECTION + " order by o.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    Stream<OrderResponseDTO> streamAllResponses();
+
+    /**
+     * Computes the order count and total spend of every client with a single GROUP BY query.
+     *
+     * @return one aggregate per client that has placed orders, in ascending client ID order
+     */
+    @Query("select new com.pikolic.meli.dto.report.ClientSpendDTO(o.client.id, count(o), sum(o.total)) "
+            + "from OrderEntity o group by o.client.id order by o.client.id")
+    List<ClientSpendDTO> sumSpendByClient();
+
+    /**
+     * Computes the order count and total spend of a single client.
+     *
+     * @param clientId the ID of the client
+     * @return the aggregate, or empty if the client has not placed any order
+     */
+    @Query("select new com.pikolic.meli.dto.report.ClientSpendDTO(o.client.id, count(o), sum(o.total)) "
+            + "from OrderEntity o where o.client.id = :clientId group by o.client.id")
+    Optional<ClientSpendDTO> sumSpendForClient(Long clientId);
+
+    /**
+     * Computes the units sold and revenue of every item with a single GROUP BY query.
+     *
+     * @return one aggregate per item that has been ordered, in ascending item ID order
+     */
+    @Query("select new com.pikolic.meli.dto.report.ItemSalesDTO(o.item.id, count(o), sum(o.total)) "
+            + "from OrderEntity o group by o.item.id order by o.item.id")
+    List<ItemSalesDTO> sumSalesByItem();
+
+    /**
+     * Computes the order count and revenue of every purchase day in a date range with a single GROUP BY query.
+     *
+     * @param from the first day of the range, inclusive
+     * @param to   the last day of the range, inclusive
+     * @return one aggregate per day with orders, in ascending date order
      */
-    List<OrderEntity> findOrdersByClientId(Long clientId);
+    @Query("select new com.pikolic.meli.dto.report.DailyRevenueDTO(o.purchaseDate, count(o), sum(o.total)) "
+            + "from OrderEntity o where o.purchaseDate between :from and :to "
+            + "group by o.purchaseDate order by o.purchaseDate")
+    List<DailyRevenueDTO> sumRevenueByDay(LocalDate from, LocalDate to);
 }
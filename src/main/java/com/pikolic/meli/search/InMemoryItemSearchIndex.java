@@ -0,0 +1,221 @@
+package com.pikolic.meli.search;
+
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@link ItemSearchIndex} held in memory, for H2 and development databases.
+ * <p>
+ * Words are lower-cased and stripped of accents, and mapped to the IDs of the items containing them in a
+ * sorted map, so a prefix is looked up as a range of words. The index also keeps the current
+ * {@link ItemResponseDTO} of every item, and answers queries without touching the database.
+ * </p>
+ *
+ * <p>
+ * The catalog is loaded once at startup, before the web server accepts requests, and kept in sync through the
+ * {@link ItemChangedEvent}s of the item service after each change commits. Changes made by other application
+ * instances, or directly in the database, are not seen until restart; use {@code postgresql} there.
+ * </p>
+ *
+ * <p>
+ * Matches are ranked by the sum, over the query words, of {@value #NAME_WEIGHT} for a word of the name and
+ * {@value #DESCRIPTION_WEIGHT} for a word of the description, halved when the query word is only a prefix.
+ * Scores are summed from the postings, and only the best {@code offset + limit} matches are kept while ranking,
+ * so a broad prefix neither sorts nor reads every matching item.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "meli.items.search", name = "engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryItemSearchIndex implements ItemSearchIndex, SmartInitializingSingleton {
+
+    /** Weight of a word found in the name of an item. */
+    static final double NAME_WEIGHT = 2.0;
+
+    /** Weight of a word found in the description of an item. */
+    static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(Match::id);
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** Indexed items by ID, with their words. */
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /** For each word, sorted, the IDs of the items containing it and its weight in each of them. */
+    private final ConcurrentSkipListMap<String, Map<Long, Double>> postings = new ConcurrentSkipListMap<>();
+
+    /**
+     * Loads every item into the index.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ItemResponseDTO> items = this.itemRepository.streamAllResponses()) {
+                items.forEach(this::put);
+            }
+        });
+        log.info("Indexed {} items for search", this.documents.size());
+    }
+
+    /**
+     * Applies a committed item change to the index.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.item() == null) {
+            remove(event.id());
+        } else {
+            put(event.item());
+        }
+    }
+
+    @Override
+    public List<ItemResponseDTO> search(String query, int offset, int limit) {
+        List<String> words = words(query).distinct().toList();
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = null;
+        for (String word : words) {
+            Map<Long, Double> matches = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Double>> posting : prefixRange(word).entrySet()) {
+                double factor = posting.getKey().length() == word.length() ? 1.0 : 0.5;
+                for (Map.Entry<Long, Double> hit : posting.getValue().entrySet()) {
+                    if (scores == null || scores.containsKey(hit.getKey())) {
+                        matches.merge(hit.getKey(), hit.getValue() * factor, Math::max);
+                    }
+                }
+            }
+            if (scores != null) {
+                Map<Long, Double> previous = scores;
+                matches.replaceAll((id, score) -> score + previous.get(id));
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+            scores = matches;
+        }
+
+        long keep = (long) offset + limit;
+        PriorityQueue<Match> best = new PriorityQueue<>((int) Math.min(keep, scores.size()) + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            best.add(new Match(score.getKey(), score.getValue()));
+            if (best.size() > keep) {
+                best.poll();
+            }
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        return ranked.stream()
+                .skip(offset)
+                .map(match -> this.documents.get(match.id()))
+                .filter(Objects::nonNull)
+                .map(Document::item)
+                .toList();
+    }
+
+    /**
+     * Adds an item to the index, or replaces its previous version.
+     *
+     * @param item the item
+     */
+    private synchronized void put(ItemResponseDTO item) {
+        remove(item.id());
+
+        Map<String, Double> weights = new HashMap<>();
+        words(item.name()).forEach(word -> weights.merge(word, NAME_WEIGHT, Math::max));
+        words(item.description()).forEach(word -> weights.merge(word, DESCRIPTION_WEIGHT, Math::max));
+
+        this.documents.put(item.id(), new Document(item, weights.keySet()));
+        weights.forEach((word, weight) -> this.postings.computeIfAbsent(word, w -> new ConcurrentHashMap<>()).put(item.id(), weight));
+    }
+
+    /**
+     * Removes an item from the index, if present.
+     *
+     * @param id the ID of the item
+     */
+    private synchronized void remove(Long id) {
+        Document previous = this.documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous.words()) {
+            this.postings.computeIfPresent(word, (w, hits) -> {
+                hits.remove(id);
+                return hits.isEmpty() ? null : hits;
+            });
+        }
+    }
+
+    /**
+     * Returns the indexed words starting with the given prefix.
+     *
+     * @param prefix the prefix
+     * @return the words and the weight of each of them in the items containing it
+     */
+    private NavigableMap<String, Map<Long, Double>> prefixRange(String prefix) {
+        return this.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Splits a text into lower-case words without accents.
+     *
+     * @param text the text, possibly {@code null}
+     * @return the words
+     */
+    private static Stream<String> words(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WORD_SEPARATOR.splitAsStream(normalized.toLowerCase(Locale.ROOT)).filter(word -> !word.isEmpty());
+    }
+
+    /**
+     * An indexed item and its words.
+     *
+     * @param item  the item
+     * @param words the distinct words of its name and description
+     */
+    private record Document(ItemResponseDTO item, Set<String> words) {}
+
+    /** The ID of a matching item and its score. */
+    private record Match(Long id, double score) {}
+}
@@ -0,0 +1,41 @@
+package com.pikolic.meli.search;
+
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+
+/**
+ * Application event published by the item service whenever an item is created, updated or deleted.
+ * <p>
+ * Published inside the transaction that makes the change; listeners that keep a copy of the catalog
+ * should handle it after commit.
+ * </p>
+ *
+ * @param id   the ID of the changed item
+ * @param item the item after the change, or {@code null} if it was deleted
+ *
+ * author Angel Lomelí
+ */
+public record ItemChangedEvent(
+        Long id,
+        ItemResponseDTO item
+) {
+
+    /**
+     * Creates the event of a created or updated item.
+     *
+     * @param item the item after the change
+     * @return the event
+     */
+    public static ItemChangedEvent saved(ItemResponseDTO item) {
+        return new ItemChangedEvent(item.id(), item);
+    }
+
+    /**
+     * Creates the event of a deleted item.
+     *
+     * @param id the ID of the deleted item
+     * @return the event
+     */
+    public static ItemChangedEvent deleted(Long id) {
+        return new ItemChangedEvent(id, null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.pikolic.meli.search;
+
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+
+import java.util.List;
+
+/**
+ * Full-text index over the name and description of items.
+ * <p>
+ * The implementation is selected with {@code meli.items.search.engine}:
+ * <ul>
+ *     <li>{@code memory} (default): {@link InMemoryItemSearchIndex}, an inverted index held by the application</li>
+ *     <li>{@code postgresql}: {@link PostgresItemSearchIndex}, a GIN-indexed {@code tsvector} column</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Every word of the query must match a word of the item, either fully or as its prefix, so a
+ * storefront can search as the user types. Matches in the name rank above matches in the description.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+public interface ItemSearchIndex {
+
+    /**
+     * Finds the items matching a query, best match first, then by ascending ID.
+     *
+     * @param query  the words to search for
+     * @param offset the number of matches to skip
+     * @param limit  the maximum number of matches to return
+     * @return the matching items
+     */
+    List<ItemResponseDTO> search(String query, int offset, int limit);
+}
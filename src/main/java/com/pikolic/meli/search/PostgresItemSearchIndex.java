@@ -0,0 +1,52 @@
+package com.pikolic.meli.search;
+
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.mapper.ItemMapper;
+import com.pikolic.meli.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ItemSearchIndex} backed by PostgreSQL full-text search.
+ * <p>
+ * The {@code item.search_vector} column, generated by the database from the name (weight A) and the
+ * description (weight B) with the {@code simple} configuration, is indexed with GIN. Every query word
+ * becomes a prefix term of a {@code tsquery}, and matches are ranked with {@code ts_rank}. Unlike the in-memory
+ * index, accents are significant unless the {@code unaccent} extension is added to the column expression. The column
+ * is maintained by PostgreSQL itself, so the index is always in sync with the table, on every instance.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "meli.items.search", name = "engine", havingValue = "postgresql")
+public class PostgresItemSearchIndex implements ItemSearchIndex {
+
+    /** Anything but letters and digits separates words, so no {@code tsquery} operator reaches the database. */
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<ItemResponseDTO> search(String query, int offset, int limit) {
+        if (query == null || limit <= 0) {
+            return List.of();
+        }
+        String tsquery = WORD_SEPARATOR.splitAsStream(query.toLowerCase(Locale.ROOT))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        if (tsquery.isEmpty()) {
+            return List.of();
+        }
+        return this.itemRepository.search(tsquery, offset, limit).stream().map(ItemMapper::toResponse).toList();
+    }
+}
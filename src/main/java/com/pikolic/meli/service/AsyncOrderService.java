@@ -0,0 +1,36 @@
+package com.pikolic.meli.service;
+
+import com.pikolic.meli.dto.order.OrderCreateForClientDTO;
+import com.pikolic.meli.dto.order.OrderTrackingDTO;
+
+import java.util.UUID;
+
+/**
+ * Service interface for placing orders of a client asynchronously.
+ * <p>
+ * Orders are validated and queued, and stored later in batches. Only available
+ * when {@code meli.orders.async.enabled} is set.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+public interface AsyncOrderService {
+
+    /**
+     * Validates an order and queues it for storage.
+     *
+     * @param clientId the ID of the client
+     * @param dto the order creation DTO
+     * @return the pending tracking entry of the order
+     */
+    OrderTrackingDTO submit(Long clientId, OrderCreateForClientDTO dto);
+
+    /**
+     * Retrieves the placement status of a queued order.
+     *
+     * @param clientId the ID of the client who placed the order
+     * @param trackingId the tracking identifier returned by {@link #submit(Long, OrderCreateForClientDTO)}
+     * @return the tracking entry of the order
+     */
+    OrderTrackingDTO getStatus(Long clientId, UUID trackingId);
+}
@@ -1,8 +1,10 @@
 package com.pikolic.meli.service;
 
 import com.pikolic.meli.dto.order.OrderCreateForClientDTO;
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
 import com.pikolic.meli.dto.order.OrderResponseDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -24,6 +26,18 @@ public interface ClientOrderService {
      */
     List<OrderResponseDTO> getOrdersByClientId(Long clientId);
 
+    /**
+     * Retrieves a page of the orders of a client purchased within a date range, using keyset pagination.
+     *
+     * @param clientId the ID of the client
+     * @param from the first purchase date, inclusive
+     * @param to the last purchase date, inclusive
+     * @param cursor the cursor returned with the previous page, or {@code null} to start from the beginning
+     * @param limit the maximum number of orders to return
+     * @return the page of order responses and the cursor for the next page
+     */
+    OrderDatePageDTO getOrdersBetween(Long clientId, LocalDate from, LocalDate to, String cursor, int limit);
+
     /**
      * Retrieves a specific order for a given client by order ID.
      *
@@ -48,9 +62,10 @@ public interface ClientOrderService {
      * @param clientId the ID of the client
      * @param orderId the ID of the order
      * @param dto the order update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated order response
      */
-    OrderResponseDTO updateOrderById(Long clientId, Long orderId, OrderCreateForClientDTO dto);
+    OrderResponseDTO updateOrderById(Long clientId, Long orderId, OrderCreateForClientDTO dto, Long expectedVersion);
 
     /**
      * Deletes an order for a specific client.
@@ -44,9 +44,10 @@ public interface ClientService {
      *
      * @param id the ID of the client
      * @param dto the client update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated client response
      */
-    ClientResponseDTO update(Long id, ClientUpdateDTO dto);
+    ClientResponseDTO update(Long id, ClientUpdateDTO dto, Long expectedVersion);
 
     /**
      * Deletes a client by its ID.
@@ -1,6 +1,10 @@
 package com.pikolic.meli.service;
 
+import com.pikolic.meli.dto.PageDTO;
+import com.pikolic.meli.dto.item.ItemBatchResultDTO;
 import com.pikolic.meli.dto.item.ItemCreateDTO;
+import com.pikolic.meli.dto.item.ItemPatchDTO;
+import com.pikolic.meli.dto.item.ItemQueryDTO;
 import com.pikolic.meli.dto.item.ItemResponseDTO;
 import com.pikolic.meli.dto.item.ItemUpdateDTO;
 
@@ -39,14 +43,41 @@ public interface ItemService {
      */
     List<ItemResponseDTO> getAll();
 
+    /**
+     * Retrieves a filtered, sorted page of items.
+     *
+     * @param query the filters, sort and page to read
+     * @return the page of items
+     */
+    PageDTO<ItemResponseDTO> find(ItemQueryDTO query);
+
+    /**
+     * Searches items by the words of their name and description, best match first.
+     *
+     * @param query the words to search for
+     * @param page the zero-based number of the page
+     * @param size the maximum number of items per page
+     * @return the page of matching items
+     */
+    PageDTO<ItemResponseDTO> search(String query, int page, int size);
+
     /**
      * Updates an existing item.
      *
      * @param id the ID of the item
      * @param dto the item update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated item response
      */
-    ItemResponseDTO update(Long id, ItemUpdateDTO dto);
+    ItemResponseDTO update(Long id, ItemUpdateDTO dto, Long expectedVersion);
+
+    /**
+     * Applies many partial item updates in a single transaction.
+     *
+     * @param dtos the item patches
+     * @return one result per submitted row, in the same order
+     */
+    List<ItemBatchResultDTO> updateBatch(List<ItemPatchDTO> dtos);
 
     /**
      * Deletes an item by its ID.
@@ -0,0 +1,36 @@
+package com.pikolic.meli.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for the order event stream.
+ * <p>
+ * Order changes are recorded in an outbox in the transaction that makes them. A relay assigns each
+ * recorded change its position in the stream and publishes it to the open subscriptions.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+public interface OrderEventService {
+
+    /**
+     * Opens a subscription to the order event stream.
+     *
+     * @param since the last stream position already processed by the caller, whose later events are
+     *              replayed first; {@code null} to receive only events published from now on
+     * @return the emitter the events are sent through
+     */
+    SseEmitter subscribe(Long since);
+
+    /**
+     * Publishes the outbox rows recorded since the last run, in batches, until none are left.
+     */
+    void relay();
+
+    /**
+     * Deletes the published events older than the retention period.
+     *
+     * @return the number of deleted events
+     */
+    int purge();
+}
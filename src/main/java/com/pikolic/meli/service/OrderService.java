@@ -1,10 +1,15 @@
 package com.pikolic.meli.service;
 
+import com.pikolic.meli.dto.order.OrderBatchResultDTO;
 import com.pikolic.meli.dto.order.OrderCreateDTO;
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
+import com.pikolic.meli.dto.order.OrderPageDTO;
 import com.pikolic.meli.dto.order.OrderResponseDTO;
 import com.pikolic.meli.dto.order.OrderUpdateDTO;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing orders.
@@ -24,6 +29,14 @@ public interface OrderService {
      */
     OrderResponseDTO create(OrderCreateDTO dto);
 
+    /**
+     * Creates many orders in a single transaction.
+     *
+     * @param dtos the order creation DTOs
+     * @return one result per submitted row, in the same order
+     */
+    List<OrderBatchResultDTO> createBatch(List<OrderCreateDTO> dtos);
+
     /**
      * Retrieves an order by its ID.
      *
@@ -39,14 +52,42 @@ public interface OrderService {
      */
     List<OrderResponseDTO> getAll();
 
+    /**
+     * Retrieves a page of orders using keyset pagination.
+     *
+     * @param after the last order ID already read, or {@code null} to start from the beginning
+     * @param limit the maximum number of orders to return
+     * @return the page of order responses and the cursor for the next page
+     */
+    OrderPageDTO getPage(Long after, int limit);
+
+    /**
+     * Retrieves a page of the orders purchased within a date range, using keyset pagination.
+     *
+     * @param from   the first purchase date, inclusive
+     * @param to     the last purchase date, inclusive
+     * @param cursor the cursor returned with the previous page, or {@code null} to start from the beginning
+     * @param limit  the maximum number of orders to return
+     * @return the page of order responses and the cursor for the next page
+     */
+    OrderDatePageDTO getPageBetween(LocalDate from, LocalDate to, String cursor, int limit);
+
+    /**
+     * Streams every order, one at a time, to the given consumer.
+     *
+     * @param consumer the action to perform for each order response
+     */
+    void forEachOrder(Consumer<OrderResponseDTO> consumer);
+
     /**
      * Updates an existing order.
      *
      * @param id the ID of the order
      * @param dto the order update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated order response
      */
-    OrderResponseDTO update(Long id, OrderUpdateDTO dto);
+    OrderResponseDTO update(Long id, OrderUpdateDTO dto, Long expectedVersion);
 
     /**
      * Deletes an order by its ID.
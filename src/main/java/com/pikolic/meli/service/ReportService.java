@@ -0,0 +1,51 @@
+package com.pikolic.meli.service;
+
+import com.pikolic.meli.dto.report.ClientSpendDTO;
+import com.pikolic.meli.dto.report.DailyRevenueDTO;
+import com.pikolic.meli.dto.report.ItemSalesDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for order reports.
+ * <p>
+ * Provides aggregates over orders that are computed by the database,
+ * so callers do not need to download and sum individual orders.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+public interface ReportService {
+
+    /**
+     * Retrieves the order count and total spend of every client.
+     *
+     * @return list of client spend aggregates
+     */
+    List<ClientSpendDTO> getSpendByClient();
+
+    /**
+     * Retrieves the order count and total spend of a single client.
+     *
+     * @param clientId the ID of the client
+     * @return the client spend aggregate
+     */
+    ClientSpendDTO getSpendForClient(Long clientId);
+
+    /**
+     * Retrieves the units sold and revenue of every item.
+     *
+     * @return list of item sales aggregates
+     */
+    List<ItemSalesDTO> getSalesByItem();
+
+    /**
+     * Retrieves the order count and revenue of every purchase day in a date range.
+     *
+     * @param from the first day of the range, inclusive
+     * @param to   the last day of the range, inclusive
+     * @return list of daily revenue aggregates
+     */
+    List<DailyRevenueDTO> getRevenueByDay(LocalDate from, LocalDate to);
+}
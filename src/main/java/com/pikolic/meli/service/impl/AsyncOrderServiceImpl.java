@@ -0,0 +1,290 @@
+package com.pikolic.meli.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pikolic.meli.config.AsyncOrderProperties;
+import com.pikolic.meli.config.MetricsConfig;
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.dto.order.OrderCreateForClientDTO;
+import com.pikolic.meli.dto.order.OrderTrackingDTO;
+import com.pikolic.meli.entity.OrderEntity;
+import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.exception.TooManyRequestsException;
+import com.pikolic.meli.repository.ClientRepository;
+import com.pikolic.meli.repository.ItemRepository;
+import com.pikolic.meli.repository.OrderRepository;
+import com.pikolic.meli.service.AsyncOrderService;
+import com.pikolic.meli.service.ItemService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link AsyncOrderService} storing orders through an in-process queue.
+ * <p>
+ * {@link #submit(Long, OrderCreateForClientDTO)} checks the client and reads the item price through the
+ * cached {@link ItemService#getById(Long)}, queues the order and returns immediately. A single writer thread
+ * drains the queue and stores up to {@code batch-size} orders per transaction, waiting at most
+ * {@code max-wait} for a batch to fill, so inserts go to the database in JDBC batches.
+ * </p>
+ *
+ * <p>
+ * At most {@code capacity} accepted orders may be waiting to be stored, including the batch being written;
+ * beyond that, submissions are rejected with a {@link TooManyRequestsException}. On shutdown the writer is
+ * stopped after the web server, and stores every queued order before the data source is closed.
+ * </p>
+ *
+ * <p>
+ * The status of each order is kept in a Caffeine cache for {@code tracking-ttl} after its last change.
+ * </p>
+ *
+ * <p>
+ * Only {@link #submit} and {@link #getStatus} are timed; the lifecycle callbacks are not service calls.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "meli.orders.async", name = "enabled", havingValue = "true")
+public class AsyncOrderServiceImpl implements AsyncOrderService, SmartLifecycle {
+
+    /** Lifecycle phase of the writer: below the web server, so requests stop before the queue is drained. */
+    private static final int WRITER_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final OrderRepository orderRepository;
+    private final ClientRepository clientRepository;
+    private final ItemRepository itemRepository;
+    private final ItemService itemService;
+    private final OrderOutbox orderOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncOrderProperties properties;
+
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private final Cache<UUID, OrderTrackingDTO> tracking;
+
+    private volatile boolean accepting;
+    private volatile Thread writer;
+
+    public AsyncOrderServiceImpl(OrderRepository orderRepository,
+                                 ClientRepository clientRepository,
+                                 ItemRepository itemRepository,
+                                 ItemService itemService,
+                                 OrderOutbox orderOutbox,
+                                 TransactionTemplate transactionTemplate,
+                                 AsyncOrderProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.clientRepository = clientRepository;
+        this.itemRepository = itemRepository;
+        this.itemService = itemService;
+        this.orderOutbox = orderOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.capacity());
+        this.tracking = Caffeine.newBuilder()
+                .expireAfterWrite(properties.trackingTtl())
+                .build();
+
+        Gauge.builder("meli.orders.async.pending", this.permits, p -> properties.capacity() - p.availablePermits())
+                .description("Accepted orders not stored yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validates an order and queues it for storage.
+     *
+     * @param clientId the ID of the client
+     * @param dto      the order creation DTO
+     * @return the pending tracking entry of the order
+     * @throws NotFoundException        if the client or item does not exist
+     * @throws TooManyRequestsException if {@code capacity} orders are already waiting, or the writer is stopping
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+    public OrderTrackingDTO submit(Long clientId, OrderCreateForClientDTO dto){
+        if(!this.clientRepository.existsById(clientId)){
+            throw new NotFoundException("No Client found with id " + clientId);
+        }
+        ItemResponseDTO item = this.itemService.getById(dto.itemId());
+
+        if(!this.accepting || !this.permits.tryAcquire()){
+            throw new TooManyRequestsException("Too many orders are waiting to be stored. Try again later");
+        }
+
+        OrderTrackingDTO pending = OrderTrackingDTO.pending(UUID.randomUUID(), clientId);
+        this.tracking.put(pending.trackingId(), pending);
+        this.queue.add(new PendingOrder(pending, item.id(), item.price(), LocalDate.now()));
+        return pending;
+    }
+
+    /**
+     * Retrieves the placement status of a queued order.
+     *
+     * @param clientId   the ID of the client who placed the order
+     * @param trackingId the tracking identifier
+     * @return the tracking entry of the order
+     * @throws NotFoundException if the tracking ID is unknown, expired or belongs to another client
+     */
+    @Override
+    @Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+    public OrderTrackingDTO getStatus(Long clientId, UUID trackingId){
+        OrderTrackingDTO status = this.tracking.getIfPresent(trackingId);
+        if(status == null || !status.clientId().equals(clientId)){
+            throw new NotFoundException("No queued Order found with tracking id " + trackingId + " for client with id " + clientId);
+        }
+        return status;
+    }
+
+    @Override
+    public void start() {
+        this.accepting = true;
+        Thread thread = new Thread(this::drain, "order-writer");
+        thread.start();
+        this.writer = thread;
+    }
+
+    /**
+     * Stops accepting orders and waits up to {@code shutdown-timeout} for the writer to store the queued ones.
+     */
+    @Override
+    public void stop() {
+        this.accepting = false;
+        Thread thread = this.writer;
+        if(thread == null){
+            return;
+        }
+        try {
+            thread.join(this.properties.shutdownTimeout().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if(thread.isAlive()){
+            log.error("Order writer did not drain the queue within {}; {} orders were not stored",
+                    this.properties.shutdownTimeout(), this.queue.size());
+        } else if(!this.queue.isEmpty()){
+            // An order accepted while the writer was exiting.
+            drain();
+        }
+        this.writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.writer != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return WRITER_PHASE;
+    }
+
+    /**
+     * Writer loop: collects batches until the service stops accepting orders and the queue is empty.
+     */
+    private void drain() {
+        List<PendingOrder> batch = new ArrayList<>(this.properties.batchSize());
+        while (this.accepting || !this.queue.isEmpty()) {
+            try {
+                PendingOrder first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first == null){
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + this.properties.maxWait().toNanos();
+                while (batch.size() < this.properties.batchSize()) {
+                    long remaining = this.accepting ? deadline - System.nanoTime() : 0;
+                    PendingOrder next = remaining > 0
+                            ? this.queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : this.queue.poll();
+                    if(next == null){
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Order writer failed to store a batch of {} orders", batch.size(), ex);
+            } finally {
+                this.permits.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Stores a batch in one transaction. If the transaction fails, each order is retried in its own
+     * transaction so that one bad order does not fail the others.
+     *
+     * @param batch the orders to store
+     */
+    private void write(List<PendingOrder> batch) {
+        try {
+            List<OrderEntity> orders = this.transactionTemplate.execute(status -> insert(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                track(batch.get(i).tracking().created(orders.get(i).getId()));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.warn("Storing a batch of {} orders failed; retrying them one by one", batch.size(), batchFailure);
+            for (PendingOrder order : batch) {
+                try {
+                    List<OrderEntity> stored = this.transactionTemplate.execute(status -> insert(List.of(order)));
+                    track(order.tracking().created(stored.get(0).getId()));
+                } catch (RuntimeException ex) {
+                    log.warn("Order {} of client {} could not be stored", order.tracking().trackingId(), order.tracking().clientId(), ex);
+                    track(order.tracking().failed("Order could not be stored"));
+                }
+            }
+        }
+    }
+
+    private List<OrderEntity> insert(List<PendingOrder> batch) {
+        List<OrderEntity> orders = batch.stream()
+                .map(order -> OrderEntity.builder()
+                        .client(this.clientRepository.getReferenceById(order.tracking().clientId()))
+                        .item(this.itemRepository.getReferenceById(order.itemId()))
+                        .purchaseDate(order.purchaseDate())
+                        .total(order.total())
+                        .build())
+                .toList();
+        List<OrderEntity> stored = this.orderRepository.saveAllAndFlush(orders);
+        stored.forEach(this.orderOutbox::created);
+        return stored;
+    }
+
+    private void track(OrderTrackingDTO status) {
+        this.tracking.put(status.trackingId(), status);
+    }
+
+    /**
+     * An accepted order waiting in the queue.
+     *
+     * @param tracking     the pending tracking entry
+     * @param itemId       the ID of the ordered item
+     * @param total        the item price when the order was accepted
+     * @param purchaseDate the day the order was accepted
+     */
+    private record PendingOrder(OrderTrackingDTO tracking, Long itemId, Double total, LocalDate purchaseDate) {}
+}
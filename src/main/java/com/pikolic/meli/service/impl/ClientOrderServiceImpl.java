@@ -1,19 +1,27 @@
 package com.pikolic.meli.service.impl;
 
+import com.pikolic.meli.config.MetricsConfig;
+import com.pikolic.meli.dto.item.ItemResponseDTO;
 import com.pikolic.meli.dto.order.OrderCreateForClientDTO;
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
 import com.pikolic.meli.dto.order.OrderResponseDTO;
 import com.pikolic.meli.entity.ClientEntity;
-import com.pikolic.meli.entity.ItemEntity;
 import com.pikolic.meli.entity.OrderEntity;
+import com.pikolic.meli.exception.ApiExceptionBase;
 import com.pikolic.meli.exception.ForbbidenException;
 import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.exception.PreconditionFailedException;
 import com.pikolic.meli.mapper.OrderMapper;
 import com.pikolic.meli.repository.ClientRepository;
 import com.pikolic.meli.repository.ItemRepository;
 import com.pikolic.meli.repository.OrderRepository;
 import com.pikolic.meli.service.ClientOrderService;
+import com.pikolic.meli.service.ItemService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,15 +33,39 @@ import java.util.List;
  * Validates existence of clients and items and ensures that clients can only access their own orders.
  * </p>
  *
+ * <p>
+ * Ownership is checked by the same indexed query that reads, loads or deletes the order, keyed on
+ * {@code (orderId, clientId)}. Only when that query finds nothing are the client and order looked up
+ * separately, to tell a missing resource (404) from an order of another client (403).
+ * </p>
+ *
+ * <p>
+ * Item prices are read through the cached {@link ItemService#getById(Long)}, and items are attached
+ * to orders as references, so placing an order for a hot item does not query the {@code item} table.
+ * </p>
+ *
+ * <p>
+ * Updates are guarded by the order version rather than row locks; see {@link OrderServiceImpl#checkVersion}.
+ * </p>
+ *
+ * <p>
+ * Reads run in read-only transactions; each write does its ownership check, item lookup and
+ * write in one transaction.
+ * </p>
+ *
  * author Angel Lomelí
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Transactional(readOnly = true)
 public class ClientOrderServiceImpl implements ClientOrderService {
 
     private final OrderRepository orderRepository;
     private final ClientRepository clientRepository;
     private final ItemRepository itemRepository;
+    private final ItemService itemService;
+    private final OrderOutbox orderOutbox;
 
     /**
      * Retrieves all orders for a given client.
@@ -44,16 +76,53 @@ public class ClientOrderServiceImpl implements ClientOrderService {
      */
     @Override
     public List<OrderResponseDTO> getOrdersByClientId(Long clientId){
-        ClientEntity client = this.clientRepository.findById(clientId)
-                .orElseThrow(() -> new NotFoundException("No Client found with id " + clientId));
+        List<OrderResponseDTO> clientOrders = this.orderRepository.findResponsesByClientId(clientId);
+        if(clientOrders.isEmpty()){
+            if(!this.clientRepository.existsById(clientId)){
+                throw new NotFoundException("No Client found with id " + clientId);
+            }
+            throw new NotFoundException("No Orders found for client with id " + clientId);
+        }
+        return clientOrders;
+    }
 
-        List<OrderEntity> clientOrders = this.orderRepository.findOrdersByClientId(clientId);
-        if(clientOrders.isEmpty()) throw new NotFoundException("No Orders found for client with id " + clientId);
-        return clientOrders.stream().map(OrderMapper::toResponse).toList();
+    /**
+     * Retrieves a page of the orders of a client purchased within a date range, using keyset
+     * pagination on (purchase date, ID).
+     * <p>
+     * One extra row is fetched to know whether a next page exists. The client is only checked
+     * when the first page is empty; an existing client without orders in the range gets an empty page.
+     * </p>
+     *
+     * @param clientId the ID of the client
+     * @param from     the first purchase date, inclusive
+     * @param to       the last purchase date, inclusive
+     * @param cursor   the cursor returned with the previous page, or {@code null} to start from the beginning
+     * @param limit    the maximum number of orders to return
+     * @return the page of order responses and the cursor for the next page
+     * @throws NotFoundException if the client does not exist
+     * @throws com.pikolic.meli.exception.BadRequestException if the range is inverted or the cursor is invalid
+     */
+    @Override
+    public OrderDatePageDTO getOrdersBetween(Long clientId, LocalDate from, LocalDate to, String cursor, int limit){
+        OrderDateCursor.checkRange(from, to);
+        OrderDateCursor position = OrderDateCursor.parse(cursor, from);
+        int pageSize = Math.min(Math.max(limit, 1), OrderServiceImpl.MAX_PAGE_SIZE);
+
+        List<OrderResponseDTO> orders = this.orderRepository.findResponsesByClientIdBetween(
+                clientId, from, to, position.date(), position.id(), Limit.of(pageSize + 1));
+        if(orders.isEmpty() && cursor == null && !this.clientRepository.existsById(clientId)){
+            throw new NotFoundException("No Client found with id " + clientId);
+        }
+        return OrderDateCursor.page(orders, pageSize);
     }
 
     /**
      * Retrieves a specific order by client ID and order ID.
+     * <p>
+     * The order is read and its ownership checked in one query; the client and order
+     * existence checks only run when that query finds nothing.
+     * </p>
      *
      * @param clientId the ID of the client
      * @param orderId  the ID of the order
@@ -63,17 +132,8 @@ public class ClientOrderServiceImpl implements ClientOrderService {
      */
     @Override
     public OrderResponseDTO getOrderByClientAndId(Long clientId, Long orderId){
-        ClientEntity client = this.clientRepository.findById(clientId)
-                .orElseThrow(() -> new NotFoundException("No Client found with id " + clientId));
-
-        OrderEntity order = this.orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("No Order found with id " + orderId));
-
-        if(!order.getClient().getId().equals(clientId)){
-            throw new ForbbidenException("Order with id " + orderId + " does not belong to client with id " + clientId);
-        }
-
-        return OrderMapper.toResponse(order);
+        return this.orderRepository.findResponseByIdAndClientId(orderId, clientId)
+                .orElseThrow(() -> ownershipFailure(clientId, orderId));
     }
 
     /**
@@ -85,21 +145,22 @@ public class ClientOrderServiceImpl implements ClientOrderService {
      * @throws NotFoundException if the client or item does not exist
      */
     @Override
+    @Transactional
     public OrderResponseDTO createOrderForClient(Long clientId, OrderCreateForClientDTO dto){
         ClientEntity client = this.clientRepository.findById(clientId)
                 .orElseThrow(() -> new NotFoundException("No Client found with id " + clientId));
 
-        ItemEntity item = this.itemRepository.findById(dto.itemId())
-                .orElseThrow(() -> new NotFoundException("No Item found with id " + dto.itemId()));
+        ItemResponseDTO item = this.itemService.getById(dto.itemId());
 
         OrderEntity newOrder = OrderEntity.builder()
                 .client(client)
-                .item(item)
+                .item(this.itemRepository.getReferenceById(item.id()))
                 .purchaseDate(LocalDate.now())
-                .total(item.getPrice())
+                .total(item.price())
                 .build();
 
         this.orderRepository.save(newOrder);
+        this.orderOutbox.created(newOrder);
         return OrderMapper.toResponse(newOrder);
     }
 
@@ -109,29 +170,26 @@ public class ClientOrderServiceImpl implements ClientOrderService {
      * @param clientId the ID of the client
      * @param orderId  the ID of the order
      * @param dto      the order update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated order response
-     * @throws NotFoundException  if the client, order, or item does not exist
-     * @throws ForbbidenException if the order does not belong to the client
+     * @throws NotFoundException           if the client, order, or item does not exist
+     * @throws ForbbidenException          if the order does not belong to the client
+     * @throws PreconditionFailedException if the order version differs from {@code expectedVersion}
      */
     @Override
-    public OrderResponseDTO updateOrderById(Long clientId, Long orderId, OrderCreateForClientDTO dto){
-        OrderEntity order = this.orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("No Order found with id " + orderId));
-
-        ClientEntity client = this.clientRepository.findById(clientId)
-                .orElseThrow(() -> new NotFoundException("No Client found with id " + clientId));
-
-        if(!order.getClient().getId().equals(client.getId())){
-            throw new ForbbidenException("Order with id " + orderId + " does not belong to client with id " + clientId);
-        }
+    @Transactional
+    public OrderResponseDTO updateOrderById(Long clientId, Long orderId, OrderCreateForClientDTO dto, Long expectedVersion){
+        OrderEntity order = this.orderRepository.findByIdAndClientId(orderId, clientId)
+                .orElseThrow(() -> ownershipFailure(clientId, orderId));
+        OrderServiceImpl.checkVersion(order, expectedVersion);
 
-        ItemEntity item = this.itemRepository.findById(dto.itemId())
-                .orElseThrow(() -> new NotFoundException("No Item found with id " + dto.itemId()));
+        ItemResponseDTO item = this.itemService.getById(dto.itemId());
 
-        order.setItem(item);
+        order.setItem(this.itemRepository.getReferenceById(item.id()));
         order.setPurchaseDate(LocalDate.now());
-        order.setTotal(item.getPrice());
-        this.orderRepository.save(order);
+        order.setTotal(item.price());
+        this.orderRepository.saveAndFlush(order);
+        this.orderOutbox.updated(order);
 
         return OrderMapper.toResponse(order);
     }
@@ -145,17 +203,29 @@ public class ClientOrderServiceImpl implements ClientOrderService {
      * @throws ForbbidenException if the order does not belong to the client
      */
     @Override
+    @Transactional
     public void deleteOrderById(Long clientId, Long orderId){
-        ClientEntity client = this.clientRepository.findById(clientId)
-                .orElseThrow(() -> new NotFoundException("No Client found with id " + clientId));
-
-        OrderEntity order = this.orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("No Order found with id " + orderId));
-
-        if(!order.getClient().getId().equals(client.getId())){
-            throw new ForbbidenException("Order with id " + orderId + " does not belong to client with id " + clientId);
+        if(this.orderRepository.deleteByIdAndClientId(orderId, clientId) == 0){
+            throw ownershipFailure(clientId, orderId);
         }
+        this.orderOutbox.deleted(orderId);
+    }
 
-        this.orderRepository.delete(order);
+    /**
+     * Explains why an order lookup scoped to a client found nothing.
+     *
+     * @param clientId the ID of the client
+     * @param orderId  the ID of the order
+     * @return a {@link NotFoundException} if the client or order does not exist,
+     *         or a {@link ForbbidenException} if the order belongs to another client
+     */
+    private ApiExceptionBase ownershipFailure(Long clientId, Long orderId){
+        if(!this.clientRepository.existsById(clientId)){
+            return new NotFoundException("No Client found with id " + clientId);
+        }
+        if(!this.orderRepository.existsById(orderId)){
+            return new NotFoundException("No Order found with id " + orderId);
+        }
+        return new ForbbidenException("Order with id " + orderId + " does not belong to client with id " + clientId);
     }
 }
@@ -1,16 +1,21 @@
 package com.pikolic.meli.service.impl;
 
+import com.pikolic.meli.config.MetricsConfig;
 import com.pikolic.meli.dto.client.ClientCreateDTO;
 import com.pikolic.meli.dto.client.ClientResponseDTO;
 import com.pikolic.meli.dto.client.ClientUpdateDTO;
 import com.pikolic.meli.entity.ClientEntity;
 import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.exception.PreconditionFailedException;
 import com.pikolic.meli.mapper.ClientMapper;
 import com.pikolic.meli.repository.ClientRepository;
+import com.pikolic.meli.repository.OrderRepository;
 import com.pikolic.meli.service.ClientService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,13 +26,22 @@ import java.util.List;
  * Uses {@link ClientMapper} to convert between DTOs and {@link ClientEntity}.
  * </p>
  *
+ * <p>
+ * Runs in read-only transactions by default; {@code create}, {@code update} and {@code delete}
+ * open a read-write transaction.
+ * </p>
+ *
  * author Angel Lomelí
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Transactional(readOnly = true)
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final OrderOutbox orderOutbox;
 
     /**
      * Creates a new client.
@@ -36,6 +50,7 @@ public class ClientServiceImpl implements ClientService {
      * @return the created client response
      */
     @Override
+    @Transactional
     public ClientResponseDTO create(@Valid ClientCreateDTO dto) {
         ClientEntity client = ClientMapper.toEntity(dto);
         this.clientRepository.save(client);
@@ -76,33 +91,51 @@ public class ClientServiceImpl implements ClientService {
 
     /**
      * Updates an existing client.
+     * <p>
+     * The {@code UPDATE} is guarded by the client version, like order updates. The change is flushed
+     * before the response is built, so the response carries the new version.
+     * </p>
      *
-     * @param id  the ID of the client
-     * @param dto the client update DTO
+     * @param id              the ID of the client
+     * @param dto             the client update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated client response
-     * @throws NotFoundException if the client does not exist
+     * @throws NotFoundException           if the client does not exist
+     * @throws PreconditionFailedException if the client version differs from {@code expectedVersion}
      */
     @Override
-    public ClientResponseDTO update(Long id, @Valid ClientUpdateDTO dto){
+    @Transactional
+    public ClientResponseDTO update(Long id, @Valid ClientUpdateDTO dto, Long expectedVersion){
         ClientEntity client = this.clientRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Client not found with id " + id));
+        if(expectedVersion != null && !expectedVersion.equals(client.getVersion())){
+            throw new PreconditionFailedException("Client with id " + id + " is at version "
+                    + client.getVersion() + ", not " + expectedVersion);
+        }
 
         ClientMapper.updateEntity(client, dto);
-        ClientEntity clientUpdated = this.clientRepository.save(client);
+        ClientEntity clientUpdated = this.clientRepository.saveAndFlush(client);
         return ClientMapper.toResponse(clientUpdated);
     }
 
     /**
-     * Deletes a client by its ID.
+     * Deletes a client by its ID, together with all of its orders.
+     * <p>
+     * Neither the client nor its orders are loaded: a deletion event is recorded for every order with one
+     * {@code INSERT ... SELECT}, the orders are removed with one set-based {@code DELETE}, then the client
+     * with a single {@code DELETE ... WHERE id = ?}, so the cost does not grow with the number of orders held in memory.
+     * </p>
      *
      * @param id the ID of the client
      * @throws NotFoundException if the client does not exist
      */
     @Override
+    @Transactional
     public void delete(Long id){
-        ClientEntity client = this.clientRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Client not found with id " + id));
-
-        this.clientRepository.delete(client);
+        this.orderOutbox.deletedForClient(id);
+        this.orderRepository.deleteOrdersByClientId(id);
+        if(this.clientRepository.deleteClientById(id) == 0){
+            throw new NotFoundException("Client not found with id " + id);
+        }
     }
 }
@@ -1,18 +1,48 @@
 package com.pikolic.meli.service.impl;
 
+import com.pikolic.meli.config.CacheConfig;
+import com.pikolic.meli.config.MetricsConfig;
+import com.pikolic.meli.dto.PageDTO;
+import com.pikolic.meli.dto.item.ItemBatchResultDTO;
 import com.pikolic.meli.dto.item.ItemCreateDTO;
+import com.pikolic.meli.dto.item.ItemPatchDTO;
+import com.pikolic.meli.dto.item.ItemQueryDTO;
 import com.pikolic.meli.dto.item.ItemResponseDTO;
 import com.pikolic.meli.dto.item.ItemUpdateDTO;
 import com.pikolic.meli.entity.ItemEntity;
+import com.pikolic.meli.exception.BadRequestException;
 import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.exception.PreconditionFailedException;
 import com.pikolic.meli.mapper.ItemMapper;
 import com.pikolic.meli.repository.ItemRepository;
+import com.pikolic.meli.repository.ItemSpecifications;
+import com.pikolic.meli.repository.OrderRepository;
+import com.pikolic.meli.search.ItemChangedEvent;
+import com.pikolic.meli.search.ItemSearchIndex;
 import com.pikolic.meli.service.ItemService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link ItemService} for managing items.
@@ -21,13 +51,47 @@ import java.util.List;
  * Uses {@link ItemMapper} to convert between DTOs and {@link ItemEntity}.
  * </p>
  *
+ * <p>
+ * Lookups by ID are read through the {@link CacheConfig#ITEMS_CACHE} cache, and updates and
+ * deletes evict the cached entry so readers never see a stale item after the write commits.
+ * Bulk updates clear the whole cache once per batch instead of evicting entry by entry.
+ * </p>
+ *
+ * <p>
+ * Reads run in read-only transactions, so loaded items are neither snapshotted for dirty checking
+ * nor flushed. Cache advice wraps the transaction, so a cache hit does not borrow a connection.
+ * </p>
+ *
+ * <p>
+ * Every change publishes an {@link ItemChangedEvent}, which keeps the {@link ItemSearchIndex} in sync.
+ * </p>
+ *
  * author Angel Lomelí
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
 
+    /** Maximum number of rows accepted by {@link #updateBatch(List)}. */
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    /** Maximum number of items returned by one page of {@link #find(ItemQueryDTO)} or {@link #search(String, int, int)}. */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** Number of items returned by one page of {@link #find(ItemQueryDTO)} when no size is given. */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Fields a listing may be sorted by, each backed by an index ending in {@code id}. */
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "price");
+
     private final ItemRepository itemRepository;
+    private final OrderRepository orderRepository;
+    private final OrderOutbox orderOutbox;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     /**
      * Creates a new item.
@@ -36,20 +100,27 @@ public class ItemServiceImpl implements ItemService {
      * @return the created item response
      */
     @Override
+    @Transactional
     public ItemResponseDTO create(@Valid ItemCreateDTO dto){
         ItemEntity itemEntity = ItemMapper.toEntity(dto);
         this.itemRepository.save(itemEntity);
-        return ItemMapper.toResponse(itemEntity);
+        ItemResponseDTO item = ItemMapper.toResponse(itemEntity);
+        this.eventPublisher.publishEvent(ItemChangedEvent.saved(item));
+        return item;
     }
 
     /**
      * Retrieves an item by its ID.
+     * <p>
+     * Results are cached; missing items are not.
+     * </p>
      *
      * @param id the ID of the item
      * @return the item response
      * @throws NotFoundException if the item does not exist
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.ITEMS_CACHE, key = "#id")
     public ItemResponseDTO getById(Long id){
         ItemEntity item = this.itemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
@@ -74,35 +145,229 @@ public class ItemServiceImpl implements ItemService {
         return items.stream().map(ItemMapper::toResponse).toList();
     }
 
+    /**
+     * Retrieves a filtered, sorted page of items.
+     * <p>
+     * Filters are combined into a single query from {@link ItemSpecifications}, sorted by the requested
+     * field and then by ID, so pages are stable. Without {@code count}, one extra item is read to tell
+     * whether another page follows and no {@code COUNT(*)} is run.
+     * </p>
+     *
+     * @param query the filters, sort and page to read
+     * @return the page of items
+     * @throws BadRequestException if the price range is inverted, the sort field or direction is unknown,
+     *                             or the page is negative
+     */
+    @Override
+    public PageDTO<ItemResponseDTO> find(ItemQueryDTO query){
+        if(query.minPrice() != null && query.maxPrice() != null && query.minPrice() > query.maxPrice()){
+            throw new BadRequestException("minPrice cannot be greater than maxPrice");
+        }
+        int page = query.page() == null ? 0 : query.page();
+        if(page < 0){
+            throw new BadRequestException("The page cannot be negative");
+        }
+        int size = query.size() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(query.size(), 1), MAX_PAGE_SIZE);
+
+        Specification<ItemEntity> filter = Specification.allOf(
+                ItemSpecifications.priceAtLeast(query.minPrice()),
+                ItemSpecifications.priceAtMost(query.maxPrice()),
+                ItemSpecifications.nameStartsWith(query.name()));
+        PageRequest pageable = PageRequest.of(page, size, sort(query.sort(), query.direction()));
+
+        if(Boolean.TRUE.equals(query.count())){
+            Page<ItemEntity> items = this.itemRepository.findAll(filter, pageable);
+            return new PageDTO<>(items.map(ItemMapper::toResponse).getContent(), page, size, items.hasNext(), items.getTotalElements());
+        }
+        Slice<ItemEntity> items = this.itemRepository.findBy(filter, q -> q.slice(pageable));
+        return new PageDTO<>(items.map(ItemMapper::toResponse).getContent(), page, size, items.hasNext(), null);
+    }
+
+    /**
+     * Searches items by the words of their name and description, best match first.
+     * <p>
+     * Every word must match a word of the item or its prefix. One extra match is read to tell whether
+     * another page follows, so no total is counted. The page size is capped at {@value #MAX_PAGE_SIZE}.
+     * Joins a transaction without opening one, since the in-memory index needs no connection.
+     * </p>
+     *
+     * @param query the words to search for
+     * @param page  the zero-based number of the page
+     * @param size  the maximum number of items per page
+     * @return the page of matching items
+     * @throws BadRequestException if the query is blank, or the page is negative or too large
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PageDTO<ItemResponseDTO> search(String query, int page, int size){
+        if(query == null || query.isBlank()){
+            throw new BadRequestException("A search query is required");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        if(page < 0 || (long) page * pageSize > Integer.MAX_VALUE - MAX_PAGE_SIZE){
+            throw new BadRequestException("The page must be between 0 and " + (Integer.MAX_VALUE - MAX_PAGE_SIZE) / pageSize);
+        }
+
+        List<ItemResponseDTO> items = this.itemSearchIndex.search(query, page * pageSize, pageSize + 1);
+        return PageDTO.of(items, page, pageSize);
+    }
+
     /**
      * Updates an existing item.
+     * <p>
+     * The {@code UPDATE} is guarded by the item version, like order updates. The change is flushed
+     * before the response is built, so the response and the change event carry the new version.
+     * </p>
      *
-     * @param id  the ID of the item
-     * @param dto the item update DTO
+     * @param id              the ID of the item
+     * @param dto             the item update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated item response
-     * @throws NotFoundException if the item does not exist
+     * @throws NotFoundException           if the item does not exist
+     * @throws PreconditionFailedException if the item version differs from {@code expectedVersion}
      */
     @Override
-    public ItemResponseDTO update(Long id, @Valid ItemUpdateDTO dto){
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS_CACHE, key = "#id")
+    public ItemResponseDTO update(Long id, @Valid ItemUpdateDTO dto, Long expectedVersion){
         ItemEntity item = this.itemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
+        if(expectedVersion != null && !expectedVersion.equals(item.getVersion())){
+            throw new PreconditionFailedException("Item with id " + id + " is at version "
+                    + item.getVersion() + ", not " + expectedVersion);
+        }
 
         ItemMapper.updateEntity(item, dto);
-        ItemEntity itemUpdated = this.itemRepository.save(item);
-        return ItemMapper.toResponse(itemUpdated);
+        ItemEntity itemUpdated = this.itemRepository.saveAndFlush(item);
+        ItemResponseDTO response = ItemMapper.toResponse(itemUpdated);
+        this.eventPublisher.publishEvent(ItemChangedEvent.saved(response));
+        return response;
     }
 
     /**
-     * Deletes an item by its ID.
+     * Applies many partial item updates in a single transaction.
+     * <p>
+     * All referenced items are loaded with one {@code IN} query, each valid row is applied to its
+     * entity, and the changes are flushed as JDBC-batched {@code UPDATE} statements. The responses and
+     * change events are built after the flush, so they carry the new versions of the items.
+     * Invalid rows and unknown IDs are reported in their result and do not stop the other rows.
+     * The items cache is cleared once, after the transaction commits.
+     * </p>
+     *
+     * @param dtos the item patches
+     * @return one result per submitted row, in the same order
+     * @throws BadRequestException if the batch is empty or larger than {@value #MAX_BATCH_SIZE} rows
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS_CACHE, allEntries = true)
+    public List<ItemBatchResultDTO> updateBatch(List<ItemPatchDTO> dtos){
+        if(dtos == null || dtos.isEmpty()){
+            throw new BadRequestException("At least one item is required");
+        }
+        if(dtos.size() > MAX_BATCH_SIZE){
+            throw new BadRequestException("A batch cannot contain more than " + MAX_BATCH_SIZE + " items");
+        }
+
+        Set<Long> ids = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(ItemPatchDTO::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemEntity> items = this.itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ItemEntity::getId, Function.identity()));
+
+        ItemBatchResultDTO[] results = new ItemBatchResultDTO[dtos.size()];
+        for (int index = 0; index < dtos.size(); index++) {
+            ItemPatchDTO dto = dtos.get(index);
+
+            String error = validateBatchRow(dto, items);
+            if(error != null){
+                results[index] = ItemBatchResultDTO.rejected(index, error);
+                continue;
+            }
+            ItemMapper.updateEntity(items.get(dto.id()), dto.toUpdate());
+        }
+
+        // Versions are only incremented when the updates are written.
+        this.itemRepository.flush();
+
+        for (int index = 0; index < dtos.size(); index++) {
+            if(results[index] == null){
+                ItemResponseDTO response = ItemMapper.toResponse(items.get(dtos.get(index).id()));
+                this.eventPublisher.publishEvent(ItemChangedEvent.saved(response));
+                results[index] = ItemBatchResultDTO.updated(index, response);
+            }
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * Deletes an item by its ID, together with all orders of it.
+     * <p>
+     * Neither the item nor its orders are loaded: a deletion event is recorded for every order with one
+     * {@code INSERT ... SELECT}, the orders are removed with one set-based {@code DELETE}, then the item
+     * with a single {@code DELETE ... WHERE id = ?}.
+     * </p>
      *
      * @param id the ID of the item
      * @throws NotFoundException if the item does not exist
      */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS_CACHE, key = "#id")
     public void delete(Long id){
-        ItemEntity item = this.itemRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Item not found with id " + id));
+        this.orderOutbox.deletedForItem(id);
+        this.orderRepository.deleteOrdersByItemId(id);
+        if(this.itemRepository.deleteItemById(id) == 0){
+            throw new NotFoundException("Item not found with id " + id);
+        }
+        this.eventPublisher.publishEvent(ItemChangedEvent.deleted(id));
+    }
 
-        this.itemRepository.delete(item);
+    /**
+     * Builds the sort of a listing from the whitelisted field and direction, with ID as the tie-breaker.
+     *
+     * @param field     the field to sort by, or {@code null} for {@code id}
+     * @param direction {@code asc}, {@code desc}, or {@code null} for ascending
+     * @return the sort
+     * @throws BadRequestException if the field or direction is unknown
+     */
+    private static Sort sort(String field, String direction){
+        String property = field == null ? "id" : field;
+        if(!SORTABLE_FIELDS.contains(property)){
+            throw new BadRequestException("Items can only be sorted by " + String.join(", ", SORTABLE_FIELDS.stream().sorted().toList()));
+        }
+        Sort.Direction order = Sort.Direction.fromOptionalString(direction == null ? "asc" : direction)
+                .orElseThrow(() -> new BadRequestException("The sort direction must be asc or desc"));
+
+        Sort sort = Sort.by(order, property);
+        return property.equals("id") ? sort : sort.and(Sort.by(order, "id"));
+    }
+
+    /**
+     * Checks a single row of a bulk update.
+     *
+     * @param dto   the submitted row
+     * @param items the items referenced by the batch, by ID
+     * @return the reason the row must be rejected, or {@code null} if it is valid
+     */
+    private String validateBatchRow(ItemPatchDTO dto, Map<Long, ItemEntity> items){
+        if(dto == null){
+            return "item is required";
+        }
+
+        Set<ConstraintViolation<ItemPatchDTO>> violations = this.validator.validate(dto);
+        if(!violations.isEmpty()){
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if(!items.containsKey(dto.id())){
+            return "No Item found with id " + dto.id();
+        }
+        return null;
     }
 }
@@ -0,0 +1,80 @@
+package com.pikolic.meli.service.impl;
+
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
+import com.pikolic.meli.dto.order.OrderResponseDTO;
+import com.pikolic.meli.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Position of an order in a listing sorted by purchase date, then ID.
+ * <p>
+ * Serialized as {@code yyyy-MM-dd:id} in the {@code cursor} of {@link OrderDatePageDTO}. Listings seek past
+ * the position with {@code (purchase_date, id) > (date, id)}, which reads on from the
+ * {@code (purchase_date, id)} indexes instead of skipping rows with OFFSET.
+ * </p>
+ *
+ * @param date the purchase date of the last order read
+ * @param id   the ID of the last order read
+ *
+ * author Angel Lomelí
+ */
+record OrderDateCursor(LocalDate date, long id) {
+
+    /**
+     * Returns the position to read a range from: the cursor, or the start of the range when absent.
+     *
+     * @param cursor the cursor sent by the client, or {@code null} for the first page
+     * @param from   the first purchase date of the range
+     * @return the position after which orders are read
+     * @throws BadRequestException if the cursor is malformed or lies before the range
+     */
+    static OrderDateCursor parse(String cursor, LocalDate from){
+        if(cursor == null || cursor.isBlank()){
+            return new OrderDateCursor(from, 0L);
+        }
+        int separator = cursor.lastIndexOf(':');
+        try {
+            OrderDateCursor parsed = new OrderDateCursor(
+                    LocalDate.parse(cursor.substring(0, Math.max(separator, 0))),
+                    Long.parseLong(cursor.substring(separator + 1)));
+            if(parsed.date().isBefore(from)){
+                throw new BadRequestException("The cursor lies before the requested range");
+            }
+            return parsed;
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Checks a purchase date range.
+     *
+     * @param from the first purchase date, inclusive
+     * @param to   the last purchase date, inclusive
+     * @throws BadRequestException if {@code from} is after {@code to}
+     */
+    static void checkRange(LocalDate from, LocalDate to){
+        if(from.isAfter(to)){
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+    }
+
+    /**
+     * Builds a page from the rows read with one row more than the page size.
+     *
+     * @param orders   the rows read, at most {@code pageSize + 1}
+     * @param pageSize the page size
+     * @return the page, with the cursor of its last order if another page follows
+     */
+    static OrderDatePageDTO page(List<OrderResponseDTO> orders, int pageSize){
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderResponseDTO> page = hasNext ? orders.subList(0, pageSize) : orders;
+
+        OrderResponseDTO last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? last.purchaseDate() + ":" + last.id() : null;
+        return new OrderDatePageDTO(page, nextCursor);
+    }
+}
@@ -0,0 +1,329 @@
+package com.pikolic.meli.service.impl;
+
+import com.pikolic.meli.config.MetricsConfig;
+import com.pikolic.meli.config.OrderEventProperties;
+import com.pikolic.meli.dto.order.OrderEventDTO;
+import com.pikolic.meli.dto.order.OrderEventResetDTO;
+import com.pikolic.meli.entity.OrderOutboxEntity;
+import com.pikolic.meli.mapper.OrderEventMapper;
+import com.pikolic.meli.repository.OrderOutboxRepository;
+import com.pikolic.meli.service.OrderEventService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of {@link OrderEventService} publishing the {@code order_outbox} table through Server-Sent Events.
+ * <p>
+ * The relay runs every {@code relay-interval}. In one transaction per batch it locks the last assigned
+ * {@code seq}, kept in the {@code order_event_position} row, numbers the unpublished rows after it and records
+ * the new last position; once committed, it hands them to every subscription. Rows are numbered in the order
+ * the relay finds them, so a change that commits late simply gets a later position. The lock makes relays on
+ * other instances wait for the batch to commit, and since the position row outlives the retention purge,
+ * positions are never reused, even once every published row has been deleted.
+ * </p>
+ *
+ * <p>
+ * Events are written to the clients by a pool of sender threads, never by the relay or the request thread.
+ * Each subscription has a queue of at most {@code subscriber-buffer} events and is served by one sender at a
+ * time, so a slow or stalled client only holds up its own events. The relay never waits on a client: a
+ * subscription whose queue is full is closed, and its client resumes from its last position on reconnect.
+ * </p>
+ *
+ * <p>
+ * A new subscription is registered before its replay starts, and a subscription is only sent the events
+ * after the last one it received. An event committed during the replay is therefore delivered exactly once,
+ * whether by the replay or from the queue. The replay starts once the handler has returned the emitter, and
+ * sends one batch at a time, so it never holds more than {@code batch-size} events in memory. It runs in
+ * read-write transactions, so it is served by the primary and never misses events not yet copied to a read
+ * replica. A replay that starts before the oldest retained event first sends a {@code RESET} event with the
+ * purged range.
+ * </p>
+ *
+ * <p>
+ * Transactions are demarcated with {@link TransactionTemplate} so that events are sent only after their
+ * positions are committed. Only {@link #subscribe(Long)} is timed; the scheduled relay and purge are not
+ * service calls.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderEventServiceImpl implements OrderEventService {
+
+    /** SSE event name of the notice sent when a replay starts before the oldest retained event. */
+    static final String RESET_EVENT = "RESET";
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderEventProperties properties;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService senders = Executors.newCachedThreadPool(new CustomizableThreadFactory("order-events-"));
+
+    /**
+     * Opens a subscription to the order event stream.
+     * <p>
+     * The subscription is registered at once, and the emitter is returned without reading any event. Once
+     * Spring MVC starts the response, a sender replays the events after {@code since} in batches of
+     * {@code batch-size}, then sends new events as the relay publishes them, until the client disconnects or
+     * {@code emitter-timeout} elapses.
+     * </p>
+     *
+     * @param since the last stream position already processed by the caller, or {@code null}
+     * @return the emitter the events are sent through
+     */
+    @Override
+    @Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+    public SseEmitter subscribe(Long since) {
+        Subscription subscription = new Subscription(this.properties.emitterTimeout().toMillis(), this.properties.subscriberBuffer());
+        SseEmitter emitter = subscription.emitter;
+        emitter.onCompletion(() -> this.subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> this.subscriptions.remove(subscription));
+
+        // The replay owns the subscription until it has caught up; the relay only queues events meanwhile.
+        subscription.scheduled.set(true);
+        subscription.lastSeq = since != null ? since : this.transactionTemplate.execute(status -> this.orderOutboxRepository.findLastSeq());
+        this.subscriptions.add(subscription);
+        subscription.emitter.onStart = () -> this.senders.execute(() -> {
+            if (since == null || replay(subscription)) {
+                drain(subscription);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Publishes the outbox rows recorded since the last run, in batches, until none are left.
+     * Runs every {@code meli.orders.events.relay-interval}.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${meli.orders.events.relay-interval:200ms}")
+    public synchronized void relay() {
+        List<OrderOutboxEntity> published;
+        do {
+            published = this.transactionTemplate.execute(status -> {
+                long seq = this.orderOutboxRepository.lockLastSeq();
+                List<OrderOutboxEntity> rows = this.orderOutboxRepository.findUnpublished(Limit.of(this.properties.batchSize()));
+                for (OrderOutboxEntity row : rows) {
+                    row.setSeq(++seq);
+                }
+                if (!rows.isEmpty()) {
+                    this.orderOutboxRepository.updateLastSeq(seq);
+                }
+                return rows;
+            });
+            for (OrderOutboxEntity row : published) {
+                broadcast(OrderEventMapper.toEvent(row));
+            }
+        } while (published.size() == this.properties.batchSize());
+    }
+
+    /**
+     * Deletes the published events older than {@code retention}.
+     * Runs every {@code meli.orders.events.purge-interval}.
+     *
+     * @return the number of deleted events
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${meli.orders.events.purge-interval:1h}")
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(this.properties.retention());
+        Integer deleted = this.transactionTemplate.execute(status -> this.orderOutboxRepository.deletePublishedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} order events recorded before {}", deleted, cutoff);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * Stops the sender threads. Open subscriptions are left to the servlet container.
+     */
+    @PreDestroy
+    void shutdown() {
+        this.senders.shutdownNow();
+    }
+
+    /**
+     * Queues an event for every subscription and wakes up their senders. A subscription whose queue is full
+     * is removed and closed by its sender.
+     *
+     * @param event the published event
+     */
+    private void broadcast(OrderEventDTO event) {
+        for (Subscription subscription : this.subscriptions) {
+            if (!subscription.queue.offer(event)) {
+                log.warn("Closing order event subscription more than {} events behind", this.properties.subscriberBuffer());
+                this.subscriptions.remove(subscription);
+                subscription.overflowed = true;
+            }
+            schedule(subscription);
+        }
+    }
+
+    /**
+     * Runs the sender of a subscription, unless one is already running.
+     *
+     * @param subscription the subscription
+     */
+    private void schedule(Subscription subscription) {
+        if (subscription.scheduled.compareAndSet(false, true)) {
+            this.senders.execute(() -> drain(subscription));
+        }
+    }
+
+    /**
+     * Sends the events published after the position of a subscription, batch by batch, preceded by a
+     * {@code RESET} event if some of them were already purged. Runs on a sender thread.
+     *
+     * @param subscription the subscription
+     * @return {@code false} if the client is gone
+     */
+    private boolean replay(Subscription subscription) {
+        Long first = this.transactionTemplate.execute(status -> this.orderOutboxRepository.findFirstPublishedSeq());
+        long firstRetained = first != null ? first : this.transactionTemplate.execute(status -> this.orderOutboxRepository.findLastSeq()) + 1;
+        if (subscription.lastSeq + 1 < firstRetained) {
+            OrderEventResetDTO reset = new OrderEventResetDTO(subscription.lastSeq + 1, firstRetained - 1);
+            if (!send(subscription, firstRetained - 1, RESET_EVENT, reset)) {
+                return false;
+            }
+        }
+
+        List<OrderOutboxEntity> replay;
+        do {
+            long after = subscription.lastSeq;
+            replay = this.transactionTemplate.execute(status ->
+                    this.orderOutboxRepository.findPublishedAfter(after, Limit.of(this.properties.batchSize())));
+            for (OrderOutboxEntity row : replay) {
+                if (subscription.overflowed) {
+                    // Left for the sender to close.
+                    return true;
+                }
+                if (!send(subscription, OrderEventMapper.toEvent(row))) {
+                    return false;
+                }
+            }
+        } while (replay.size() == this.properties.batchSize());
+        return true;
+    }
+
+    /**
+     * Sends the queued events of a subscription that it has not received yet, until its queue is empty.
+     * Runs on a sender thread, one at a time per subscription.
+     *
+     * @param subscription the subscription
+     */
+    private void drain(Subscription subscription) {
+        do {
+            OrderEventDTO event;
+            while ((event = subscription.queue.poll()) != null && !subscription.overflowed) {
+                if (event.seq() > subscription.lastSeq && !send(subscription, event)) {
+                    return;
+                }
+            }
+            if (subscription.overflowed) {
+                subscription.queue.clear();
+                subscription.emitter.complete();
+                return;
+            }
+            subscription.scheduled.set(false);
+        } while (!subscription.queue.isEmpty() && subscription.scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Sends an event to a subscription, closing the subscription if the client is gone.
+     * Must be called by the sender of the subscription.
+     *
+     * @param subscription the subscription
+     * @param event        the event
+     * @return {@code true} if the event was sent
+     */
+    private boolean send(Subscription subscription, OrderEventDTO event) {
+        return send(subscription, event.seq(), event.type().name(), event);
+    }
+
+    /**
+     * Sends an event with the given position and name to a subscription, closing the subscription if the
+     * client is gone. Must be called by the sender of the subscription.
+     *
+     * @param subscription the subscription
+     * @param seq          the position the client resumes from after this event
+     * @param name         the SSE event name
+     * @param data         the event data
+     * @return {@code true} if the event was sent
+     */
+    private boolean send(Subscription subscription, long seq, String name, Object data) {
+        try {
+            subscription.emitter.send(SseEmitter.event()
+                    .id(String.valueOf(seq))
+                    .name(name)
+                    .data(data));
+            subscription.lastSeq = seq;
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping order event subscription: {}", ex.getMessage());
+            this.subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    /**
+     * An open subscription: its emitter, the events waiting to be sent and the position of the last event
+     * sent. {@code lastSeq} is only read and written by the sender holding {@code scheduled}.
+     */
+    private static final class Subscription {
+
+        private final StartingEmitter emitter;
+        private final BlockingQueue<OrderEventDTO> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private long lastSeq;
+
+        private Subscription(long timeout, int buffer) {
+            this.emitter = new StartingEmitter(timeout);
+            this.queue = new ArrayBlockingQueue<>(buffer);
+        }
+    }
+
+    /**
+     * Emitter running a callback once Spring MVC has taken it from the handler and starts the response,
+     * so that events are written to the response instead of being buffered by the emitter.
+     */
+    private static final class StartingEmitter extends SseEmitter {
+
+        private Runnable onStart = () -> {};
+
+        private StartingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        protected void extendResponse(ServerHttpResponse outputMessage) {
+            super.extendResponse(outputMessage);
+            this.onStart.run();
+        }
+    }
+}
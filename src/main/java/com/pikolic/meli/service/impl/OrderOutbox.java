@@ -0,0 +1,70 @@
+package com.pikolic.meli.service.impl;
+
+import com.pikolic.meli.entity.OrderEntity;
+import com.pikolic.meli.entity.OrderOutboxEntity;
+import com.pikolic.meli.mapper.OrderEventMapper;
+import com.pikolic.meli.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records order changes in the {@code order_outbox} table.
+ * <p>
+ * Every method must be called inside the transaction that makes the change, so that the event is
+ * committed or rolled back together with it. Rows are inserted through the persistence context and
+ * therefore share the JDBC batches of the order inserts.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Component
+@RequiredArgsConstructor
+class OrderOutbox {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    /**
+     * Records the creation of an order.
+     *
+     * @param order the created order, with its ID assigned
+     */
+    void created(OrderEntity order) {
+        this.orderOutboxRepository.save(OrderEventMapper.toOutbox(order, OrderOutboxEntity.Type.CREATED));
+    }
+
+    /**
+     * Records the update of an order.
+     *
+     * @param order the order after the update
+     */
+    void updated(OrderEntity order) {
+        this.orderOutboxRepository.save(OrderEventMapper.toOutbox(order, OrderOutboxEntity.Type.UPDATED));
+    }
+
+    /**
+     * Records the deletion of an order.
+     *
+     * @param orderId the ID of the deleted order
+     */
+    void deleted(Long orderId) {
+        this.orderOutboxRepository.save(OrderEventMapper.toDeletedOutbox(orderId));
+    }
+
+    /**
+     * Records the deletion of every order of a client. Must be called before the orders are deleted.
+     *
+     * @param clientId the ID of the client
+     */
+    void deletedForClient(Long clientId) {
+        this.orderOutboxRepository.insertDeletedForClient(clientId);
+    }
+
+    /**
+     * Records the deletion of every order of an item. Must be called before the orders are deleted.
+     *
+     * @param itemId the ID of the item
+     */
+    void deletedForItem(Long itemId) {
+        this.orderOutboxRepository.insertDeletedForItem(itemId);
+    }
+}
@@ -1,22 +1,44 @@
 package com.pikolic.meli.service.impl;
 
+import com.pikolic.meli.config.MetricsConfig;
+import com.pikolic.meli.dto.item.ItemResponseDTO;
+import com.pikolic.meli.dto.order.OrderBatchResultDTO;
 import com.pikolic.meli.dto.order.OrderCreateDTO;
+import com.pikolic.meli.dto.order.OrderDatePageDTO;
+import com.pikolic.meli.dto.order.OrderPageDTO;
 import com.pikolic.meli.dto.order.OrderResponseDTO;
 import com.pikolic.meli.dto.order.OrderUpdateDTO;
 import com.pikolic.meli.entity.ClientEntity;
 import com.pikolic.meli.entity.ItemEntity;
 import com.pikolic.meli.entity.OrderEntity;
+import com.pikolic.meli.exception.BadRequestException;
 import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.exception.PreconditionFailedException;
 import com.pikolic.meli.mapper.OrderMapper;
 import com.pikolic.meli.repository.ClientRepository;
 import com.pikolic.meli.repository.ItemRepository;
 import com.pikolic.meli.repository.OrderRepository;
+import com.pikolic.meli.service.ItemService;
 import com.pikolic.meli.service.OrderService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link OrderService} for managing orders.
@@ -25,15 +47,37 @@ import java.util.List;
  * Validates existence of clients and items and uses {@link OrderMapper} to map between DTOs and {@link OrderEntity}.
  * </p>
  *
+ * <p>
+ * Items are looked up through the cached {@link ItemService#getById(Long)} and attached to the order
+ * as references, so placing an order for a hot item does not query the {@code item} table.
+ * </p>
+ *
+ * <p>
+ * Every method runs in a single transaction, read-only unless it writes: reads skip dirty checking and
+ * flushing, and a write performs its lookups and its insert or update on one pooled connection.
+ * </p>
+ *
  * author Angel Lomelí
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    /** Upper bound for the number of orders returned in a single page. */
+    static final int MAX_PAGE_SIZE = 500;
+
+    /** Upper bound for the number of orders accepted in a single batch. */
+    private static final int MAX_BATCH_SIZE = 5000;
+
     private final OrderRepository orderRepository;
     private final ClientRepository clientRepository;
     private final ItemRepository itemRepository;
+    private final ItemService itemService;
+    private final OrderOutbox orderOutbox;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
     /**
      * Creates a new order.
@@ -43,19 +87,73 @@ public class OrderServiceImpl implements OrderService {
      * @throws NotFoundException if the client or item does not exist
      */
     @Override
+    @Transactional
     public OrderResponseDTO create(@Valid OrderCreateDTO dto){
         ClientEntity client = clientRepository.findById(dto.clientId())
                 .orElseThrow(() -> new NotFoundException("No Client found with id " + dto.clientId()));
 
-        ItemEntity item = itemRepository.findById(dto.itemId())
-                .orElseThrow(() -> new NotFoundException("No Item found with id " + dto.itemId()));
+        ItemEntity item = findItemReference(dto.itemId());
 
         OrderEntity order = OrderMapper.toEntity(dto, client, item);
         this.orderRepository.save(order);
+        this.orderOutbox.created(order);
 
         return OrderMapper.toResponse(order);
     }
 
+    /**
+     * Creates many orders in a single transaction.
+     * <p>
+     * Every row is validated individually, and all referenced client and item IDs are resolved
+     * with one {@code IN} query each. Valid rows are inserted through JDBC batching; the persistence
+     * context is flushed and cleared every {@value OrderEntity#ID_ALLOCATION_SIZE} rows so it does not
+     * grow with the size of the batch. Rejected rows are reported without affecting the others.
+     * </p>
+     *
+     * @param dtos the order creation DTOs
+     * @return one result per submitted row, in the same order
+     * @throws BadRequestException if the batch is empty or larger than {@value #MAX_BATCH_SIZE} rows
+     */
+    @Override
+    @Transactional
+    public List<OrderBatchResultDTO> createBatch(List<OrderCreateDTO> dtos){
+        if(dtos == null || dtos.isEmpty()){
+            throw new BadRequestException("At least one order is required");
+        }
+        if(dtos.size() > MAX_BATCH_SIZE){
+            throw new BadRequestException("A batch cannot contain more than " + MAX_BATCH_SIZE + " orders");
+        }
+
+        Set<Long> existingClients = this.clientRepository.findExistingIds(collectIds(dtos, OrderCreateDTO::clientId));
+        Set<Long> existingItems = this.itemRepository.findExistingIds(collectIds(dtos, OrderCreateDTO::itemId));
+
+        List<OrderBatchResultDTO> results = new ArrayList<>(dtos.size());
+        int pending = 0;
+        for (int index = 0; index < dtos.size(); index++) {
+            OrderCreateDTO dto = dtos.get(index);
+
+            String error = validateBatchRow(dto, existingClients, existingItems);
+            if(error != null){
+                results.add(OrderBatchResultDTO.rejected(index, error));
+                continue;
+            }
+
+            OrderEntity order = OrderMapper.toEntity(dto,
+                    this.clientRepository.getReferenceById(dto.clientId()),
+                    this.itemRepository.getReferenceById(dto.itemId()));
+            this.orderRepository.save(order);
+            this.orderOutbox.created(order);
+            results.add(OrderBatchResultDTO.created(index, OrderMapper.toResponse(order)));
+
+            if(++pending % OrderEntity.ID_ALLOCATION_SIZE == 0){
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        return results;
+    }
+
     /**
      * Retrieves an order by its ID.
      *
@@ -65,10 +163,8 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public OrderResponseDTO getById(Long id){
-        OrderEntity order = this.orderRepository.findById(id)
+        return this.orderRepository.findResponseById(id)
                 .orElseThrow(() -> new NotFoundException("No Order found with id " + id));
-
-        return OrderMapper.toResponse(order);
     }
 
     /**
@@ -79,51 +175,201 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public List<OrderResponseDTO> getAll(){
-        List<OrderEntity> orders = this.orderRepository.findAll();
+        List<OrderResponseDTO> orders = this.orderRepository.findAllResponses();
 
         if(orders.isEmpty()){
             throw new NotFoundException("No orders found");
         }
 
-        return orders.stream().map(OrderMapper::toResponse).toList();
+        return orders;
+    }
+
+    /**
+     * Retrieves a page of orders using keyset pagination.
+     * <p>
+     * One extra row is fetched to know whether a next page exists without running a COUNT query.
+     * The page size is clamped between 1 and {@value #MAX_PAGE_SIZE}.
+     * </p>
+     *
+     * @param after the last order ID already read, or {@code null} to start from the beginning
+     * @param limit the maximum number of orders to return
+     * @return the page of order responses and the cursor for the next page
+     */
+    @Override
+    public OrderPageDTO getPage(Long after, int limit){
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long cursor = after == null ? 0L : after;
+
+        List<OrderResponseDTO> orders = this.orderRepository.findResponsesAfter(cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderResponseDTO> page = hasNext ? orders.subList(0, pageSize) : orders;
+
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+        return new OrderPageDTO(page, nextCursor);
+    }
+
+    /**
+     * Retrieves a page of the orders purchased within a date range, using keyset pagination
+     * on (purchase date, ID).
+     * <p>
+     * One extra row is fetched to know whether a next page exists without running a COUNT query.
+     * The page size is clamped between 1 and {@value #MAX_PAGE_SIZE}.
+     * </p>
+     *
+     * @param from   the first purchase date, inclusive
+     * @param to     the last purchase date, inclusive
+     * @param cursor the cursor returned with the previous page, or {@code null} to start from the beginning
+     * @param limit  the maximum number of orders to return
+     * @return the page of order responses and the cursor for the next page
+     * @throws BadRequestException if the range is inverted or the cursor is invalid
+     */
+    @Override
+    public OrderDatePageDTO getPageBetween(LocalDate from, LocalDate to, String cursor, int limit){
+        OrderDateCursor.checkRange(from, to);
+        OrderDateCursor position = OrderDateCursor.parse(cursor, from);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        List<OrderResponseDTO> orders = this.orderRepository.findResponsesBetween(
+                from, to, position.date(), position.id(), Limit.of(pageSize + 1));
+        return OrderDateCursor.page(orders, pageSize);
+    }
+
+    /**
+     * Streams every order, one at a time, to the given consumer.
+     * <p>
+     * Orders are read as projections through a database cursor, so they are never
+     * attached to the persistence context and memory use stays constant regardless of table size.
+     * </p>
+     *
+     * @param consumer the action to perform for each order response
+     */
+    @Override
+    public void forEachOrder(Consumer<OrderResponseDTO> consumer){
+        try (Stream<OrderResponseDTO> orders = this.orderRepository.streamAllResponses()) {
+            orders.forEach(consumer);
+        }
     }
 
     /**
      * Updates an existing order.
+     * <p>
+     * No row lock is taken: the {@code UPDATE} is guarded by the order version, so an update that
+     * races with another one fails with an {@link org.springframework.dao.OptimisticLockingFailureException}
+     * instead of overwriting it. The change is flushed before returning so the response holds the new version.
+     * </p>
      *
-     * @param id  the ID of the order
-     * @param dto the order update DTO
+     * @param id              the ID of the order
+     * @param dto             the order update DTO
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
      * @return the updated order response
-     * @throws NotFoundException if the order, client, or item does not exist
+     * @throws NotFoundException           if the order, client, or item does not exist
+     * @throws PreconditionFailedException if the order version differs from {@code expectedVersion}
      */
     @Override
-    public OrderResponseDTO update(Long id, @Valid OrderUpdateDTO dto){
+    @Transactional
+    public OrderResponseDTO update(Long id, @Valid OrderUpdateDTO dto, Long expectedVersion){
         OrderEntity order = this.orderRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("No Order found with id " + id));
+        checkVersion(order, expectedVersion);
 
-        ClientEntity client = this.clientRepository.findById(dto.clientId())
+        ClientEntity client = dto.clientId() == null ? null : this.clientRepository.findById(dto.clientId())
                 .orElseThrow(() -> new NotFoundException("No Client found with id " + dto.clientId()));
 
-        ItemEntity item = this.itemRepository.findById(dto.itemId())
-                .orElseThrow(() -> new NotFoundException("No Item found with id " + dto.itemId()));
+        ItemEntity item = dto.itemId() == null ? null : findItemReference(dto.itemId());
 
         OrderMapper.updateEntity(order, dto, client, item);
-        this.orderRepository.save(order);
+        this.orderRepository.saveAndFlush(order);
+        this.orderOutbox.updated(order);
 
         return OrderMapper.toResponse(order);
     }
 
     /**
-     * Deletes an order by its ID.
+     * Deletes an order by its ID with a single {@code DELETE ... WHERE id = ?}, without loading it.
      *
      * @param id the ID of the order
      * @throws NotFoundException if the order does not exist
      */
     @Override
+    @Transactional
     public void delete(Long id){
-        OrderEntity order = this.orderRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("No Order found with id " + id));
+        if(this.orderRepository.deleteOrderById(id) == 0){
+            throw new NotFoundException("No Order found with id " + id);
+        }
+        this.orderOutbox.deleted(id);
+    }
+
+    /**
+     * Returns a reference to an existing item without loading it from the database.
+     * <p>
+     * Existence is checked through the item cache, so only a cache miss reaches the database.
+     * </p>
+     *
+     * @param itemId the ID of the item
+     * @return a reference to the item entity
+     * @throws NotFoundException if the item does not exist
+     */
+    private ItemEntity findItemReference(Long itemId){
+        ItemResponseDTO item = this.itemService.getById(itemId);
+        return this.itemRepository.getReferenceById(item.id());
+    }
 
-        this.orderRepository.delete(order);
+    /**
+     * Rejects an update based on a stale read of the order.
+     *
+     * @param order           the loaded order
+     * @param expectedVersion the version the caller last read, or {@code null} to skip the check
+     * @throws PreconditionFailedException if the versions differ
+     */
+    static void checkVersion(OrderEntity order, Long expectedVersion){
+        if(expectedVersion != null && !expectedVersion.equals(order.getVersion())){
+            throw new PreconditionFailedException("Order with id " + order.getId() + " is at version "
+                    + order.getVersion() + ", not " + expectedVersion);
+        }
+    }
+
+    /**
+     * Checks a single row of a batch.
+     *
+     * @param dto             the row to check
+     * @param existingClients the client IDs known to exist
+     * @param existingItems   the item IDs known to exist
+     * @return the reason the row is rejected, or {@code null} if it is valid
+     */
+    private String validateBatchRow(OrderCreateDTO dto, Set<Long> existingClients, Set<Long> existingItems){
+        if(dto == null){
+            return "order is required";
+        }
+
+        Set<ConstraintViolation<OrderCreateDTO>> violations = this.validator.validate(dto);
+        if(!violations.isEmpty()){
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if(!existingClients.contains(dto.clientId())){
+            return "No Client found with id " + dto.clientId();
+        }
+        if(!existingItems.contains(dto.itemId())){
+            return "No Item found with id " + dto.itemId();
+        }
+        return null;
+    }
+
+    /**
+     * Collects the distinct, non-null IDs referenced by a batch.
+     *
+     * @param dtos      the rows of the batch
+     * @param extractor the function reading the ID from a row
+     * @return the distinct IDs
+     */
+    private static Set<Long> collectIds(List<OrderCreateDTO> dtos, Function<OrderCreateDTO, Long> extractor){
+        return dtos.stream()
+                .filter(Objects::nonNull)
+                .map(extractor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,98 @@
+package com.pikolic.meli.service.impl;
+
+import com.pikolic.meli.config.MetricsConfig;
+import com.pikolic.meli.dto.report.ClientSpendDTO;
+import com.pikolic.meli.dto.report.DailyRevenueDTO;
+import com.pikolic.meli.dto.report.ItemSalesDTO;
+import com.pikolic.meli.exception.BadRequestException;
+import com.pikolic.meli.exception.NotFoundException;
+import com.pikolic.meli.repository.ClientRepository;
+import com.pikolic.meli.repository.OrderRepository;
+import com.pikolic.meli.service.ReportService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of {@link ReportService} for order reports.
+ * <p>
+ * Every aggregate is computed by a single GROUP BY query in {@link OrderRepository},
+ * so only the compact results travel from the database to the client.
+ * </p>
+ *
+ * <p>
+ * Every report runs in a read-only transaction.
+ * </p>
+ *
+ * author Angel Lomelí
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Transactional(readOnly = true)
+public class ReportServiceImpl implements ReportService {
+
+    private final OrderRepository orderRepository;
+    private final ClientRepository clientRepository;
+
+    /**
+     * Retrieves the order count and total spend of every client that has placed orders.
+     *
+     * @return list of client spend aggregates
+     */
+    @Override
+    public List<ClientSpendDTO> getSpendByClient(){
+        return this.orderRepository.sumSpendByClient();
+    }
+
+    /**
+     * Retrieves the order count and total spend of a single client.
+     * <p>
+     * A client without orders is reported with zero orders and zero spend.
+     * </p>
+     *
+     * @param clientId the ID of the client
+     * @return the client spend aggregate
+     * @throws NotFoundException if the client does not exist
+     */
+    @Override
+    public ClientSpendDTO getSpendForClient(Long clientId){
+        return this.orderRepository.sumSpendForClient(clientId)
+                .orElseGet(() -> {
+                    if(!this.clientRepository.existsById(clientId)){
+                        throw new NotFoundException("No Client found with id " + clientId);
+                    }
+                    return new ClientSpendDTO(clientId, 0L, 0.0);
+                });
+    }
+
+    /**
+     * Retrieves the units sold and revenue of every item that has been ordered.
+     *
+     * @return list of item sales aggregates
+     */
+    @Override
+    public List<ItemSalesDTO> getSalesByItem(){
+        return this.orderRepository.sumSalesByItem();
+    }
+
+    /**
+     * Retrieves the order count and revenue of every purchase day in a date range.
+     *
+     * @param from the first day of the range, inclusive
+     * @param to   the last day of the range, inclusive
+     * @return list of daily revenue aggregates
+     * @throws BadRequestException if {@code from} is after {@code to}
+     */
+    @Override
+    public List<DailyRevenueDTO> getRevenueByDay(LocalDate from, LocalDate to){
+        if(from.isAfter(to)){
+            throw new BadRequestException("from must not be after to");
+        }
+        return this.orderRepository.sumRevenueByDay(from, to);
+    }
+}
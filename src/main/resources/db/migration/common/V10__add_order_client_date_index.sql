@@ -0,0 +1,7 @@
+-- ==========================
+-- Client-scoped date-range index.
+-- Client order listings filtered by purchase date (WHERE client_id = ? AND purchase_date BETWEEN ? AND ?)
+-- and paged on (purchase_date, id) read one range of this index in order.
+-- ==========================
+
+CREATE INDEX IF NOT EXISTS idx_orders_client_id_purchase_date_id ON orders (client_id, purchase_date, id);
@@ -0,0 +1,14 @@
+-- ==========================
+-- High-water mark of the order event stream.
+-- The relay takes stream positions (order_outbox.seq) from this single row instead of the outbox itself,
+-- so positions keep growing after the retention purge empties the outbox, and are never reused.
+-- Locking the row also serializes relays running on several instances.
+-- ==========================
+
+CREATE TABLE order_event_position (
+    id       INTEGER PRIMARY KEY,
+    last_seq BIGINT  NOT NULL
+);
+
+INSERT INTO order_event_position (id, last_seq)
+SELECT 1, COALESCE(MAX(seq), 0) FROM order_outbox;
@@ -0,0 +1,32 @@
+-- ==========================
+-- Initial schema, matching ClientEntity, ItemEntity and OrderEntity.
+-- Written in SQL understood by both PostgreSQL and H2 (MODE=PostgreSQL).
+-- ==========================
+
+CREATE TABLE client (
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name    VARCHAR(255) NOT NULL,
+    age     INTEGER      NOT NULL,
+    email   VARCHAR(255) NOT NULL,
+    address VARCHAR(255)
+);
+
+CREATE TABLE item (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255)     NOT NULL,
+    description VARCHAR(255),
+    price       DOUBLE PRECISION NOT NULL
+);
+
+-- Increment must match OrderEntity.ID_ALLOCATION_SIZE (pooled id allocation).
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE orders (
+    id            BIGINT           PRIMARY KEY,
+    client_id     BIGINT           NOT NULL,
+    item_id       BIGINT           NOT NULL,
+    purchase_date DATE             NOT NULL,
+    total         DOUBLE PRECISION NOT NULL,
+    CONSTRAINT fk_orders_client FOREIGN KEY (client_id) REFERENCES client (id),
+    CONSTRAINT fk_orders_item   FOREIGN KEY (item_id)   REFERENCES item (id)
+);
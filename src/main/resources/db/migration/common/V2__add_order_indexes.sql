@@ -0,0 +1,14 @@
+-- ==========================
+-- Order indexes.
+-- Foreign keys are not indexed automatically, so without these every
+-- client-orders lookup and every date-range report scans the whole table.
+-- ==========================
+
+-- Client orders listing (WHERE client_id = ? ORDER BY id) and per-client spend.
+CREATE INDEX IF NOT EXISTS idx_orders_client_id_id ON orders (client_id, id);
+
+-- Date-range queries (WHERE purchase_date BETWEEN ? AND ?), ordered by id for keyset pagination.
+CREATE INDEX IF NOT EXISTS idx_orders_purchase_date_id ON orders (purchase_date, id);
+
+-- Per-item sales and the item foreign key checks on item delete.
+CREATE INDEX IF NOT EXISTS idx_orders_item_id ON orders (item_id);
@@ -0,0 +1,7 @@
+-- ==========================
+-- Optimistic-locking versions for clients and items.
+-- The version also serves as the ETag of GET /api/v1/clients/{id} and GET /api/v1/items/{id}.
+-- ==========================
+
+ALTER TABLE client ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE item ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,6 @@
+-- ==========================
+-- Optimistic-locking version for orders.
+-- The version is sent as the ETag of GET/PUT /api/v1/orders/{id} and checked against If-Match on updates.
+-- ==========================
+
+ALTER TABLE orders ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
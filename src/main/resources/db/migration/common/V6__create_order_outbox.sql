@@ -0,0 +1,23 @@
+-- ==========================
+-- Transactional outbox of order changes, matching OrderOutboxEntity.
+-- Rows are written in the transaction that changes the order. The relay later assigns each row
+-- its position in the event stream (seq), in the order the rows became visible.
+-- ==========================
+
+-- Increment must match OrderOutboxEntity.ID_ALLOCATION_SIZE (pooled id allocation).
+CREATE SEQUENCE order_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE order_outbox (
+    id            BIGINT           PRIMARY KEY,
+    seq           BIGINT,
+    event_type    VARCHAR(16)      NOT NULL,
+    order_id      BIGINT           NOT NULL,
+    client_id     BIGINT,
+    item_id       BIGINT,
+    purchase_date DATE,
+    total         DOUBLE PRECISION,
+    created_at    TIMESTAMP        NOT NULL,
+    CONSTRAINT uk_order_outbox_seq UNIQUE (seq)
+);
+
+CREATE INDEX idx_order_outbox_created_at ON order_outbox (created_at);
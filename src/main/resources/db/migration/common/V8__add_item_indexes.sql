@@ -0,0 +1,9 @@
+-- ==========================
+-- Item listing indexes.
+-- Price-range filters and price or name sorting read an index range in order,
+-- with id as the tie-breaker used by every sort, instead of scanning and sorting the table.
+-- ==========================
+
+CREATE INDEX IF NOT EXISTS idx_item_price_id ON item (price, id);
+
+CREATE INDEX IF NOT EXISTS idx_item_name_id ON item (name, id);
@@ -0,0 +1,13 @@
+-- ==========================
+-- PostgreSQL-only covering indexes for date-range order listings.
+-- ==========================
+
+-- The order projection reads only these columns, so date-range pages, global or per client,
+-- are answered with index-only scans instead of visiting the heap for every row.
+CREATE INDEX IF NOT EXISTS idx_orders_purchase_date_id_covering
+    ON orders (purchase_date, id) INCLUDE (client_id, item_id, total, version);
+DROP INDEX IF EXISTS idx_orders_purchase_date_id;
+
+CREATE INDEX IF NOT EXISTS idx_orders_client_id_purchase_date_id_covering
+    ON orders (client_id, purchase_date, id) INCLUDE (item_id, total, version);
+DROP INDEX IF EXISTS idx_orders_client_id_purchase_date_id;
@@ -0,0 +1,10 @@
+-- ==========================
+-- PostgreSQL-only: keep the client orders covering index in step with the order projection.
+-- ==========================
+
+-- The projection now also reads the optimistic-locking version, which the V3 index did not include,
+-- so every client orders lookup went back to the heap. Recreated in the same migration transaction,
+-- so the lookup is never left without an index.
+DROP INDEX IF EXISTS idx_orders_client_id_id_covering;
+CREATE INDEX IF NOT EXISTS idx_orders_client_id_id_covering
+    ON orders (client_id, id) INCLUDE (item_id, purchase_date, total, version);
@@ -0,0 +1,11 @@
+-- ==========================
+-- Order ids of databases baselined at version 1.
+-- ==========================
+
+-- Databases created by ddl-auto=update never ran V1: their order ids are an identity
+-- column and orders_seq does not exist. Bring them to the V1 schema before V3 moves the
+-- sequence past the existing ids. On databases created by V1 both statements do nothing.
+-- Increment must match OrderEntity.ID_ALLOCATION_SIZE (pooled id allocation).
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
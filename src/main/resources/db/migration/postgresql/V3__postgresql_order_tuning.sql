@@ -0,0 +1,13 @@
+-- ==========================
+-- PostgreSQL-only order tuning.
+-- ==========================
+
+-- Covering index: the client orders projection reads only these columns, so
+-- PostgreSQL can answer it with an index-only scan instead of visiting the heap.
+CREATE INDEX IF NOT EXISTS idx_orders_client_id_id_covering
+    ON orders (client_id, id) INCLUDE (item_id, purchase_date, total);
+DROP INDEX IF EXISTS idx_orders_client_id_id;
+
+-- Databases created by ddl-auto=update may hold order ids beyond the sequence.
+-- Move it past the current maximum so the pooled id allocation cannot collide.
+SELECT setval('orders_seq', (SELECT COALESCE(MAX(id), 0) FROM orders) + 50, false);
@@ -0,0 +1,13 @@
+-- ==========================
+-- PostgreSQL-only full-text search over items.
+-- ==========================
+
+-- Kept up to date by PostgreSQL on every insert and update; not mapped by ItemEntity.
+-- The 'simple' configuration neither stems nor drops stop words, so prefixes of any word match.
+ALTER TABLE item ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_item_search_vector ON item USING GIN (search_vector);
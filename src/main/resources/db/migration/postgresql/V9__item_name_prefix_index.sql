@@ -0,0 +1,7 @@
+-- ==========================
+-- PostgreSQL-only index for case-insensitive name prefixes.
+-- ==========================
+
+-- Item listings filter with lower(name) LIKE 'prefix%'. text_pattern_ops lets the
+-- B-tree answer the LIKE with a range scan whatever the database collation.
+CREATE INDEX IF NOT EXISTS idx_item_lower_name_pattern ON item (lower(name) text_pattern_ops);
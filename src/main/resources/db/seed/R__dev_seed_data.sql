@@ -0,0 +1,30 @@
+-- ==========================
+-- Development seed data, applied by Flyway after the schema migrations
+-- (dev profile only). Identity columns assign client and item ids 1-3.
+-- ==========================
+
+-- ==========================
+-- Clients
+-- ==========================
+INSERT INTO client (name, age, email, address) VALUES ('Alice Smith', 28, 'alice@example.com', '123 Main St');
+INSERT INTO client (name, age, email, address) VALUES ('Bob Johnson', 35, 'bob@example.com', '456 Oak Ave');
+INSERT INTO client (name, age, email, address) VALUES ('Charlie Brown', 42, 'charlie@example.com', '789 Pine Rd');
+
+-- ==========================
+-- Items
+-- ==========================
+INSERT INTO item (name, description, price) VALUES ('Laptop', 'Dell XPS 13', 1200.0);
+INSERT INTO item (name, description, price) VALUES ('Smartphone', 'Samsung Galaxy S24', 900.0);
+INSERT INTO item (name, description, price) VALUES ('Headphones', 'Sony WH-1000XM5', 350.0);
+
+-- ==========================
+-- Orders
+-- ==========================
+INSERT INTO orders (id, client_id, item_id, purchase_date, total)
+VALUES (nextval('orders_seq'), 1, 2, '2025-10-21', 900.0);
+
+INSERT INTO orders (id, client_id, item_id, purchase_date, total)
+VALUES (nextval('orders_seq'), 2, 1, '2025-10-21', 1200.0);
+
+INSERT INTO orders (id, client_id, item_id, purchase_date, total)
+VALUES (nextval('orders_seq'), 3, 3, '2025-10-21', 350.0);
@@ -0,0 +1,165 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pikolic.meli.service.impl.AsyncOrderServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Orders are stored by the writer thread in their own transactions, so these tests run without a
+ * surrounding test transaction, on a database of their own, and poll for the outcome.
+ * A one-second batch wait keeps accepted orders queued long enough to fill the two-order capacity.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:async_orders;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "meli.orders.async.enabled=true",
+        "meli.orders.async.capacity=2",
+        "meli.orders.async.batch-size=10",
+        "meli.orders.async.max-wait=1s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AsyncOrderIntegrationTest {
+
+    private static final long POLL_TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AsyncOrderServiceImpl asyncOrderService;
+
+    private Integer clientId;
+    private Integer itemId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MvcResult clientResult = mockMvc.perform(post("/api/v1/clients/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        clientId = JsonPath.read(clientResult.getResponse().getContentAsString(), "$.id");
+
+        MvcResult itemResult = mockMvc.perform(post("/api/v1/items/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":25.5}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        itemId = JsonPath.read(itemResult.getResponse().getContentAsString(), "$.id");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // Deleting the client and item also deletes their orders.
+        mockMvc.perform(delete("/api/v1/clients/" + clientId));
+        mockMvc.perform(delete("/api/v1/items/" + itemId));
+    }
+
+    @Test
+    @DisplayName("Should accept Orders with 202, reject them with 429 when the queue is full, and store them in the background")
+    void shouldQueueOrdersAndApplyBackpressure() throws Exception {
+        String first = submit();
+        String second = submit();
+
+        mockMvc.perform(post("/api/v1/clients/" + clientId + "/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson()))
+                .andExpect(status().isTooManyRequests());
+
+        Integer orderId = awaitCreated(first);
+        awaitCreated(second);
+
+        mockMvc.perform(get("/api/v1/orders/" + orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.client_id").value(clientId))
+                .andExpect(jsonPath("$.total").value(25.5));
+
+        // Capacity is available again once the orders are stored.
+        awaitCreated(submit());
+    }
+
+    @Test
+    @DisplayName("Should store every queued Order before the writer stops")
+    void shouldDrainQueueOnStop() throws Exception {
+        String first = submit();
+        String second = submit();
+
+        asyncOrderService.stop();
+        try {
+            for (String location : new String[]{first, second}) {
+                mockMvc.perform(get(location))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.status").value("CREATED"));
+            }
+        } finally {
+            asyncOrderService.start();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown Clients and hide the status of other Clients' Orders")
+    void shouldValidateAndScopeTracking() throws Exception {
+        mockMvc.perform(post("/api/v1/clients/999999/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson()))
+                .andExpect(status().isNotFound());
+
+        String location = submit();
+        String trackingId = location.substring(location.lastIndexOf('/') + 1);
+
+        mockMvc.perform(get("/api/v1/clients/999999/orders/requests/" + trackingId))
+                .andExpect(status().isNotFound());
+
+        awaitCreated(location);
+    }
+
+    private String orderJson() {
+        return """
+                {"itemId": %d}
+                """.formatted(itemId);
+    }
+
+    private String submit() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/clients/" + clientId + "/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.clientId").value(clientId))
+                .andReturn();
+        return result.getResponse().getHeader("Location");
+    }
+
+    private Integer awaitCreated(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + POLL_TIMEOUT_MS;
+        while (true) {
+            String body = mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String status = JsonPath.read(body, "$.status");
+            if (!"PENDING".equals(status) || System.currentTimeMillis() > deadline) {
+                assertEquals("CREATED", status);
+                return JsonPath.read(body, "$.orderId");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -131,4 +132,70 @@ public class ClientIntegrationTest {
         mockMvc.perform(get("/api/v1/clients/" +  clientId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("Answer a conditional Client GET with 304 until the Client changes")
+    void shouldHonourIfNoneMatchOnClient() throws Exception{
+        MvcResult result = mockMvc.perform(post("/api/v1/clients/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name":"Angel","age":24,"email":"abravo@gmail.com","address":"Avenida los venados #408"}
+                        """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer clientId = JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+
+        String etag = mockMvc.perform(get("/api/v1/clients/" + clientId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/clients/" + clientId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/v1/clients/" + clientId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name":"Angel Daniel","age":25,"email":"abravo@gmail.com","address":"Avenida los venados #408"}
+                        """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/clients/" + clientId).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.name").value("Angel Daniel"));
+    }
+
+    @Test
+    @DisplayName("Update Client only if its ETag matches If-Match")
+    void shouldUpdateClientIfMatch() throws Exception{
+        MvcResult result = mockMvc.perform(post("/api/v1/clients/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name":"Angel","age":24,"email":"abravo@gmail.com","address":"Avenida los venados #408"}
+                        """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer clientId = JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+
+        String updateJson = """
+                {"name":"Angel Daniel","age":25,"email":"abravo@gmail.com","address":"Avenida los venados #408"}
+                """;
+
+        mockMvc.perform(put("/api/v1/clients/" + clientId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+
+        // A second update based on the first read is stale.
+        mockMvc.perform(put("/api/v1/clients/" + clientId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(updateJson))
+                .andExpect(status().isPreconditionFailed());
+    }
 }
@@ -124,6 +124,29 @@ public class ClientOrderIntegrationTest {
                 .andExpect(jsonPath("$[0].total").value(25.5));
     }
 
+    @Test
+    @DisplayName("Get the Orders of a Client within a date range")
+    void shouldGetOrdersOfClientBetweenDates() throws Exception{
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders")
+                .param("from", "2025-10-01")
+                .param("to", "2025-10-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(orderIds.get(0)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders")
+                .param("from", "2025-10-22")
+                .param("to", "2025-10-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+
+        mockMvc.perform(get("/api/v1/clients/999999/orders")
+                .param("from", "2025-10-01")
+                .param("to", "2025-10-31"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Get specific Order of a Client")
     void shouldGetSpecificOrderOfClient() throws Exception{
@@ -161,4 +184,36 @@ public class ClientOrderIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Reject access to an Order of another Client")
+    void shouldForbidOrderOfAnotherClient() throws Exception{
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders/" + orderIds.get(1)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(put("/api/v1/clients/" + clientIds.get(0) + "/orders/" + orderIds.get(1))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"itemId": %d}
+                        """.formatted(itemIds.get(0))))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/api/v1/clients/" + clientIds.get(0) + "/orders/" + orderIds.get(1)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(1) + "/orders/" + orderIds.get(1)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Return 404 for an unknown Client or Order")
+    void shouldReturnNotFoundForUnknownClientOrOrder() throws Exception{
+        mockMvc.perform(get("/api/v1/clients/999999/orders/" + orderIds.get(0)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders/999999"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/v1/clients/" + clientIds.get(0) + "/orders/999999"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,154 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compression is applied by Tomcat, so these tests call a running server instead of going through MockMvc.
+ * Requests are not wrapped in a test transaction; they run on a database of their own and delete their data afterwards.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compression;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "server.compression.min-response-size=1KB"
+})
+@ActiveProfiles("test")
+public class CompressionIntegrationTest {
+
+    private static final int ORDERS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private Integer clientId;
+    private Integer itemId;
+    private Integer orderId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clientId = JsonPath.read(send(post("/api/v1/clients/", """
+                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                """)).body(), "$.id");
+        itemId = JsonPath.read(send(post("/api/v1/items/", """
+                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":25.5}
+                """)).body(), "$.id");
+        for (int i = 0; i < ORDERS; i++) {
+            orderId = JsonPath.read(send(post("/api/v1/orders/", """
+                    {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+                    """.formatted(clientId, itemId))).body(), "$.id");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        send(request("/api/v1/clients/" + clientId).DELETE().build());
+        send(request("/api/v1/items/" + itemId).DELETE().build());
+    }
+
+    @Test
+    @DisplayName("Should gzip responses from the minimum size up and report their bytes on the wire")
+    void shouldCompressLargeResponsesOnly() throws Exception {
+        HttpResponse<byte[]> small = sendGzip("/api/v1/orders/" + orderId);
+        assertEquals(200, small.statusCode());
+        assertFalse(small.headers().firstValue("Content-Encoding").isPresent());
+
+        HttpResponse<byte[]> large = sendGzip("/api/v1/orders/");
+        assertEquals(200, large.statusCode());
+        assertEquals("gzip", large.headers().firstValue("Content-Encoding").orElse(null));
+        String json = gunzip(large.body());
+        assertEquals(ORDERS, JsonPath.<Integer>read(json, "$.length()"));
+        assertTrue(large.body().length < json.length());
+
+        DistributionSummary bytes = awaitResponseBytes("/api/v1/orders/", "gzip");
+        assertTrue(bytes.totalAmount() < json.length());
+        Timer cpu = meterRegistry.find("meli.http.request.cpu").tag("uri", "/api/v1/orders/").timer();
+        assertNotNull(cpu);
+        assertTrue(cpu.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should gzip the order export as it streams")
+    void shouldCompressStreamingExport() throws Exception {
+        HttpResponse<byte[]> export = sendGzip("/api/v1/orders/export");
+
+        assertEquals(200, export.statusCode());
+        assertEquals("gzip", export.headers().firstValue("Content-Encoding").orElse(null));
+        // Streamed in chunks: the length is not known up front and the body is never held in full.
+        assertFalse(export.headers().firstValue("Content-Length").isPresent());
+        List<String> lines = gunzip(export.body()).lines().toList();
+        assertEquals(ORDERS, lines.size());
+        assertEquals(clientId, JsonPath.read(lines.get(0), "$.client_id"));
+
+        assertTrue(awaitResponseBytes("/api/v1/orders/export", "gzip").totalAmount() > 0);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<byte[]> sendGzip(String path) throws IOException, InterruptedException {
+        return httpClient.send(request(path).header("Accept-Encoding", "gzip").GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Tomcat records the metrics once the response is complete, which may be after the client has read it. */
+    private DistributionSummary awaitResponseBytes(String uri, String encoding) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            DistributionSummary summary = meterRegistry.find("meli.http.response.bytes")
+                    .tag("uri", uri)
+                    .tag("encoding", encoding)
+                    .summary();
+            if (summary != null && summary.count() > 0) {
+                return summary;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No " + encoding + " response bytes recorded for " + uri);
+    }
+}
@@ -0,0 +1,231 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pikolic.meli.config.CacheConfig;
+import com.pikolic.meli.entity.ItemEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The item cache only populates and evicts entries once a transaction commits,
+ * so these tests run without a surrounding test transaction and clean up after themselves.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ItemCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Cache itemsCache;
+
+    private Integer clientId;
+    private Integer itemId;
+    private Integer orderId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        itemsCache = cacheManager.getCache(CacheConfig.ITEMS_CACHE);
+
+        MvcResult clientResult = mockMvc.perform(post("/api/v1/clients/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        clientId = JsonPath.read(clientResult.getResponse().getContentAsString(), "$.id");
+
+        MvcResult itemResult = mockMvc.perform(post("/api/v1/items/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":25.5}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        itemId = JsonPath.read(itemResult.getResponse().getContentAsString(), "$.id");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (orderId != null) {
+            mockMvc.perform(delete("/api/v1/orders/" + orderId));
+            orderId = null;
+        }
+        mockMvc.perform(delete("/api/v1/items/" + itemId));
+        mockMvc.perform(delete("/api/v1/clients/" + clientId));
+    }
+
+    @Test
+    @DisplayName("Serve repeated Item lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+        assertNotNull(itemsCache.get(itemId.longValue()));
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/items/" + itemId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Coca-Cola"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Evict cached Item on update and delete")
+    void shouldEvictCachedItemOnWrite() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/v1/items/" + itemId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":30.0}
+                                """))
+                .andExpect(status().isOk());
+        assertNull(itemsCache.get(itemId.longValue()));
+
+        mockMvc.perform(get("/api/v1/items/" + itemId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(30.0));
+
+        mockMvc.perform(delete("/api/v1/items/" + itemId)).andExpect(status().isNoContent());
+        assertNull(itemsCache.get(itemId.longValue()));
+
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Clear the Item cache once a bulk update commits")
+    void shouldClearCacheOnBulkUpdate() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+        assertNotNull(itemsCache.get(itemId.longValue()));
+
+        statistics.clear();
+        mockMvc.perform(patch("/api/v1/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"id": %d, "price": 28.0}]
+                                """.formatted(itemId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].item.price").value(28.0));
+
+        // One select for the batch and one batched update.
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertNull(itemsCache.get(itemId.longValue()));
+
+        mockMvc.perform(get("/api/v1/items/" + itemId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(28.0));
+    }
+
+    @Test
+    @DisplayName("Answer a conditional Item GET with 304 from the cache until the Item changes")
+    void shouldHonourIfNoneMatchFromCache() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/items/" + itemId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/items/" + itemId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(put("/api/v1/items/" + itemId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":27.0}
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/items/" + itemId).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.price").value(27.0));
+    }
+
+    @Test
+    @DisplayName("Place an Order without loading a cached Item")
+    void shouldPlaceOrderWithoutLoadingCachedItem() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+
+        statistics.clear();
+        MvcResult orderResult = mockMvc.perform(post("/api/v1/clients/" + clientId + "/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"itemId": %d}
+                                """.formatted(itemId)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(25.5))
+                .andReturn();
+        orderId = JsonPath.read(orderResult.getResponse().getContentAsString(), "$.id");
+
+        assertEquals(0, statistics.getEntityStatistics(ItemEntity.class.getName()).getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Serve a cached Item without a transaction and place an Order in a single one")
+    void shouldUseOneTransactionPerRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+        assertEquals(0, statistics.getTransactionCount());
+        assertEquals(0, statistics.getConnectCount());
+
+        statistics.clear();
+        MvcResult orderResult = mockMvc.perform(post("/api/v1/orders/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+                                """.formatted(clientId, itemId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        orderId = JsonPath.read(orderResult.getResponse().getContentAsString(), "$.id");
+
+        // The client lookup, the item reference and the insert share one transaction and one connection.
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(1, statistics.getConnectCount());
+    }
+
+    @Test
+    @DisplayName("Expose Item cache hit and miss counters")
+    void shouldExposeCacheCounters() throws Exception {
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/items/" + itemId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets")
+                        .param("tag", "cache:" + CacheConfig.ITEMS_CACHE)
+                        .param("tag", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").isNumber());
+    }
+}
@@ -1,17 +1,25 @@
 package com.pikolic.meli.integration;
 
 import com.jayway.jsonpath.JsonPath;
+import com.pikolic.meli.search.ItemChangedEvent;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -20,11 +28,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 public class ItemIntegrationTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Test
     @DisplayName("Create Item Correctly")
     void shouldCreateItem() throws Exception {
@@ -116,6 +128,42 @@ public class ItemIntegrationTest {
 
     }
 
+    @Test
+    @DisplayName("Update Item only if its ETag matches If-Match")
+    void shouldUpdateItemIfMatch() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/items/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Sprite","description":"Sprite 600ml","price":22.0}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer itemId = JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(get("/api/v1/items/" + itemId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        String updateJson = """
+                {"name":"Sprite","description":"Sprite 600ml","price":23.0}
+                """;
+
+        mockMvc.perform(put("/api/v1/items/" + itemId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.price").value(23.0));
+
+        // A second update based on the first read is stale.
+        mockMvc.perform(put("/api/v1/items/" + itemId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateJson))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @DisplayName("Delete Item by ID")
     void shouldDeleteItemById() throws Exception {
@@ -140,4 +188,135 @@ public class ItemIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Update many Items in one call with per-row results")
+    void shouldUpdateItemsBatch() throws Exception {
+        List<Integer> itemIds = new ArrayList<>();
+        for (String json : List.of(
+                """
+                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":25.5}
+                """,
+                """
+                {"name":"Pepsi","description":"Pepsi 600ml","price":24.5}
+                """)) {
+            MvcResult result = mockMvc.perform(post("/api/v1/items/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            itemIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+
+        String batchJson = """
+                [
+                  {"id": %d, "price": 27.0},
+                  {"id": %d, "name": "Pepsi Light", "price": 23.0},
+                  {"id": 999999, "price": 10.0},
+                  {"id": %d, "price": -1}
+                ]
+                """.formatted(itemIds.get(0), itemIds.get(1), itemIds.get(0));
+
+        mockMvc.perform(patch("/api/v1/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].item.price").value(27.0))
+                .andExpect(jsonPath("$[0].item.name").value("Coca-Cola"))
+                .andExpect(jsonPath("$[1].item.name").value("Pepsi Light"))
+                .andExpect(jsonPath("$[2].error").value("No Item found with id 999999"))
+                .andExpect(jsonPath("$[3].error").value("price: price must be positive"));
+
+        // Listeners are told the version written by the batch, not the one it was loaded with.
+        ItemChangedEvent changed = applicationEvents.stream(ItemChangedEvent.class)
+                .filter(event -> event.id() == itemIds.get(1).longValue())
+                .reduce((first, last) -> last)
+                .orElseThrow();
+        assertEquals(1L, changed.item().version());
+
+        mockMvc.perform(get("/api/v1/items/" + itemIds.get(1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Pepsi Light"))
+                .andExpect(jsonPath("$.price").value(23.0));
+
+        mockMvc.perform(patch("/api/v1/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("List Items filtered by price range and name prefix, sorted and paginated")
+    void shouldListFilteredItemsPage() throws Exception {
+        List<Integer> itemIds = new ArrayList<>();
+        for (String itemJson : List.of(
+                """
+                {"name":"Listed Agua","description":"Agua 1l","price":12.0}
+                """,
+                """
+                {"name":"listed Café","description":"Café 250g","price":89.0}
+                """,
+                """
+                {"name":"Listed Jugo","description":"Jugo 1l","price":35.0}
+                """,
+                """
+                {"name":"Listed_Té","description":"Té verde","price":40.0}
+                """)) {
+            MvcResult result = mockMvc.perform(post("/api/v1/items/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(itemJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            itemIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+
+        mockMvc.perform(get("/api/v1/items")
+                        .param("name", "listed ")
+                        .param("minPrice", "20")
+                        .param("sort", "price")
+                        .param("direction", "desc")
+                        .param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(itemIds.get(1)))
+                .andExpect(jsonPath("$.items[1].id").value(itemIds.get(2)))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/api/v1/items")
+                        .param("name", "LISTED")
+                        .param("maxPrice", "50")
+                        .param("sort", "name")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("Listed Agua"))
+                .andExpect(jsonPath("$.items[1].name").value("Listed Jugo"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.total").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/items")
+                        .param("name", "LISTED")
+                        .param("maxPrice", "50")
+                        .param("sort", "name")
+                        .param("size", "2")
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Listed_Té"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Reject Item listings with an inverted price range or an unknown sort")
+    void shouldRejectInvalidItemListing() throws Exception {
+        mockMvc.perform(get("/api/v1/items").param("minPrice", "50").param("maxPrice", "10"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/items").param("sort", "description"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/items").param("sort", "price").param("direction", "up"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/items").param("minPrice", "cheap"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,140 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The in-memory search index is updated after each item change commits, so these tests run without a
+ * surrounding test transaction, on a database of their own, and delete their items afterwards.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:item_search;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ItemSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Integer> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        itemIds.clear();
+        for (String itemJson : List.of(
+                """
+                {"name":"Coca-Cola","description":"Refresco de cola 600ml","price":25.5}
+                """,
+                """
+                {"name":"Pepsi","description":"Refresco de cola 600ml","price":24.5}
+                """,
+                """
+                {"name":"Café de olla","description":"Café molido con canela","price":89.0}
+                """)) {
+            MvcResult result = mockMvc.perform(post("/api/v1/items/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(itemJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            itemIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Integer itemId : itemIds) {
+            mockMvc.perform(delete("/api/v1/items/" + itemId));
+        }
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above description matches and match word prefixes")
+    void shouldRankAndMatchPrefixes() throws Exception {
+        mockMvc.perform(get("/api/v1/items/search").param("q", "cola"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(itemIds.get(0)))
+                .andExpect(jsonPath("$.items[1].id").value(itemIds.get(1)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.total").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/items/search").param("q", "REFRES pep"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Pepsi"));
+
+        mockMvc.perform(get("/api/v1/items/search").param("q", "cafe canela"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(itemIds.get(2)));
+
+        mockMvc.perform(get("/api/v1/items/search").param("q", "té"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should paginate search results")
+    void shouldPaginateResults() throws Exception {
+        mockMvc.perform(get("/api/v1/items/search").param("q", "refresco").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(itemIds.get(0)))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/v1/items/search").param("q", "refresco").param("size", "1").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(itemIds.get(1)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Should keep the search index in sync with item updates and deletes")
+    void shouldReflectUpdatesAndDeletes() throws Exception {
+        mockMvc.perform(put("/api/v1/items/" + itemIds.get(1))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Pepsi Light","description":"Refresco sin azúcar","price":24.5}
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/items/search").param("q", "azucar"))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Pepsi Light"));
+        mockMvc.perform(get("/api/v1/items/search").param("q", "cola"))
+                .andExpect(jsonPath("$.items.length()").value(1));
+
+        mockMvc.perform(delete("/api/v1/items/" + itemIds.get(0)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/items/search").param("q", "cola"))
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should reject a missing or blank search query")
+    void shouldRejectBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/items/search"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/items/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/items/search").param("q", "cola").param("page", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,225 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pikolic.meli.repository.OrderOutboxRepository;
+import com.pikolic.meli.service.OrderEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Outbox rows are published by the relay after the changes commit, so these tests run without a
+ * surrounding test transaction, on a database of their own, and run the relay explicitly.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order_events;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class OrderEventIntegrationTest {
+
+    private static final Pattern EVENT = Pattern.compile("id:(\\d+)\nevent:(\\w+)\ndata:(.*)\n");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderEventService orderEventService;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Integer clientId;
+    private Integer itemId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MvcResult clientResult = mockMvc.perform(post("/api/v1/clients/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        clientId = JsonPath.read(clientResult.getResponse().getContentAsString(), "$.id");
+
+        MvcResult itemResult = mockMvc.perform(post("/api/v1/items/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":25.5}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        itemId = JsonPath.read(itemResult.getResponse().getContentAsString(), "$.id");
+    }
+
+    @Test
+    @DisplayName("Should replay every Order change after a stream position, in order")
+    void shouldReplayOrderEventsSincePosition() throws Exception {
+        long since = currentPosition();
+        Integer updatedId = createOrder();
+        Integer keptId = createOrder();
+
+        mockMvc.perform(put("/api/v1/orders/" + updatedId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-22", "total": 51.0}
+                                """.formatted(clientId, itemId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/orders/" + updatedId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/clients/" + clientId))
+                .andExpect(status().isNoContent());
+        orderEventService.relay();
+
+        List<String[]> events = awaitEvents(subscribe(since), 5);
+
+        assertEquals(5, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(since + i + 1, Long.parseLong(events.get(i)[0]));
+        }
+        assertEquals(List.of("CREATED", "CREATED", "UPDATED", "DELETED", "DELETED"),
+                events.stream().map(event -> event[1]).toList());
+        assertEquals(51.0, JsonPath.<Double>read(events.get(2)[2], "$.order.total"));
+        assertEquals(updatedId, JsonPath.read(events.get(3)[2], "$.orderId"));
+        assertEquals(keptId, JsonPath.read(events.get(4)[2], "$.orderId"));
+        assertNull(JsonPath.read(events.get(4)[2], "$.order"));
+
+        // Nothing is replayed after the last position: the first event is the next change.
+        MvcResult caughtUp = subscribe(since + 5);
+        setUp();
+        Integer nextId = createOrder();
+        orderEventService.relay();
+        List<String[]> next = awaitEvents(caughtUp, 1);
+        assertEquals(since + 6, Long.parseLong(next.get(0)[0]));
+        assertEquals(nextId, JsonPath.read(next.get(0)[2], "$.orderId"));
+
+        mockMvc.perform(delete("/api/v1/clients/" + clientId));
+        mockMvc.perform(delete("/api/v1/items/" + itemId));
+    }
+
+    @Test
+    @DisplayName("Should send new Order changes to an open subscription once the relay publishes them")
+    void shouldSendLiveOrderEvents() throws Exception {
+        // Changes left unpublished by other tests are published before subscribing.
+        orderEventService.relay();
+        MvcResult subscription = mockMvc.perform(get("/api/v1/orders/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Integer orderId = createOrder();
+        assertTrue(events(subscription).isEmpty());
+
+        orderEventService.relay();
+        List<String[]> events = awaitEvents(subscription, 1);
+        assertEquals(1, events.size());
+        assertEquals("CREATED", events.get(0)[1]);
+        assertEquals(orderId, JsonPath.read(events.get(0)[2], "$.order.id"));
+        assertEquals(clientId, JsonPath.read(events.get(0)[2], "$.order.client_id"));
+
+        // Publishing again sends nothing new: the next event is the next change.
+        orderEventService.relay();
+        mockMvc.perform(delete("/api/v1/orders/" + orderId));
+        orderEventService.relay();
+        events = awaitEvents(subscription, 2);
+        assertEquals(2, events.size());
+        assertEquals("DELETED", events.get(1)[1]);
+
+        mockMvc.perform(delete("/api/v1/clients/" + clientId));
+        mockMvc.perform(delete("/api/v1/items/" + itemId));
+    }
+
+    @Test
+    @DisplayName("Should report purged Order events and keep numbering after the retention purge empties the outbox")
+    void shouldNotReusePositionsAfterPurge() throws Exception {
+        createOrder();
+        orderEventService.relay();
+        long lastPosition = currentPosition();
+
+        // Everything published is past retention, as after a write-quiet period longer than the retention window.
+        transactionTemplate.executeWithoutResult(status ->
+                orderOutboxRepository.deletePublishedBefore(LocalDateTime.now().plusDays(1)));
+        List<String[]> reset = awaitEvents(subscribe(0), 1);
+        assertEquals(lastPosition, Long.parseLong(reset.get(0)[0]));
+        assertEquals("RESET", reset.get(0)[1]);
+        assertEquals(1, JsonPath.<Integer>read(reset.get(0)[2], "$.missedFrom"));
+        assertEquals(lastPosition, JsonPath.<Number>read(reset.get(0)[2], "$.missedTo").longValue());
+
+        Integer orderId = createOrder();
+        orderEventService.relay();
+
+        List<String[]> events = awaitEvents(subscribe(lastPosition), 1);
+        assertEquals(1, events.size());
+        assertEquals(lastPosition + 1, Long.parseLong(events.get(0)[0]));
+        assertEquals(orderId, JsonPath.read(events.get(0)[2], "$.order.id"));
+
+        mockMvc.perform(delete("/api/v1/clients/" + clientId));
+        mockMvc.perform(delete("/api/v1/items/" + itemId));
+    }
+
+    private Integer createOrder() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/orders/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+                                """.formatted(clientId, itemId)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+    }
+
+    /** Publishes pending changes and returns the position of the last published event. */
+    private long currentPosition() {
+        orderEventService.relay();
+        return transactionTemplate.execute(status -> orderOutboxRepository.findLastSeq());
+    }
+
+    private MvcResult subscribe(long since) throws Exception {
+        return mockMvc.perform(get("/api/v1/orders/events").param("since", String.valueOf(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    /** Events are written by a sender thread after the request returns: waits until {@code count} of them arrived. */
+    private static List<String[]> awaitEvents(MvcResult result, int count) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            List<String[]> events = events(result);
+            if (events.size() >= count) {
+                return events;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Fewer than " + count + " order events received: " + result.getResponse().getContentAsString());
+    }
+
+    /** Parses the events written so far to a subscription as {@code [id, event, data]} triples. */
+    private static List<String[]> events(MvcResult result) throws Exception {
+        List<String[]> events = new ArrayList<>();
+        Matcher matcher = EVENT.matcher(result.getResponse().getContentAsString());
+        while (matcher.find()) {
+            events.add(new String[]{matcher.group(1), matcher.group(2), matcher.group(3)});
+        }
+        return events;
+    }
+}
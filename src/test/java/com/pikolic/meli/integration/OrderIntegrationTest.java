@@ -1,6 +1,12 @@
 package com.pikolic.meli.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.jayway.jsonpath.JsonPath;
+import com.pikolic.meli.entity.OrderEntity;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,14 +14,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +38,12 @@ public class OrderIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private final List<Integer> clientIds = new ArrayList<>();
     private final List<Integer> itemIds = new ArrayList<>();
 
@@ -88,7 +104,38 @@ public class OrderIntegrationTest {
                 .content(orderJson))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.client_id").value(clientIds.get(0)))
-                .andExpect(jsonPath("$.item_id").value(clientIds.get(0)));
+                .andExpect(jsonPath("$.item_id").value(itemIds.get(0)));
+    }
+
+    @Test
+    @DisplayName("Create a batch of Orders with per-row results")
+    void shouldCreateOrdersBatch() throws Exception{
+        String batchJson = """
+            [
+              {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5},
+              {"clientId": 999999, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5},
+              {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-22", "total": 0},
+              {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-22", "total": 24.5}
+            ]
+        """.formatted(clientIds.get(0), itemIds.get(0), itemIds.get(0),
+                clientIds.get(1), itemIds.get(1), clientIds.get(1), itemIds.get(1));
+
+        MvcResult batchResult = mockMvc.perform(post("/api/v1/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].order.client_id").value(clientIds.get(0)))
+                .andExpect(jsonPath("$[1].error").value("No Client found with id 999999"))
+                .andExpect(jsonPath("$[2].error").value("total: total must be greater than zero"))
+                .andExpect(jsonPath("$[3].order.item_id").value(itemIds.get(1)))
+                .andReturn();
+
+        Integer orderId = JsonPath.read(batchResult.getResponse().getContentAsString(), "$[3].order.id");
+
+        mockMvc.perform(get("/api/v1/orders/" + orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(24.5));
     }
 
     @Test
@@ -112,6 +159,153 @@ public class OrderIntegrationTest {
                 .andExpect(jsonPath("$[0].item_id").value(itemIds.get(0)));
     }
 
+    @Test
+    @DisplayName("Create and list Orders as CBOR and Smile")
+    void shouldNegotiateBinaryFormats() throws Exception{
+        ObjectMapper cbor = new CBORMapper();
+        ObjectMapper smile = new SmileMapper();
+        ObjectMapper json = new ObjectMapper();
+        MediaType cborType = MediaType.valueOf("application/cbor");
+        MediaType smileType = MediaType.valueOf("application/x-jackson-smile");
+
+        byte[] orderCbor = cbor.writeValueAsBytes(Map.of(
+                "clientId", clientIds.get(0), "itemId", itemIds.get(0), "purchaseDate", "2025-10-21", "total", 25.5));
+        MvcResult created = mockMvc.perform(post("/api/v1/orders/")
+                        .contentType(cborType)
+                        .accept(cborType)
+                        .content(orderCbor))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(cborType))
+                .andReturn();
+        JsonNode order = cbor.readTree(created.getResponse().getContentAsByteArray());
+        assertEquals(clientIds.get(0).longValue(), order.get("client_id").asLong());
+        assertEquals("2025-10-21", order.get("purchaseDate").asText());
+
+        MvcResult asJson = mockMvc.perform(get("/api/v1/orders/"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        MvcResult asSmile = mockMvc.perform(get("/api/v1/orders/").accept(smileType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smileType))
+                .andReturn();
+        assertEquals(json.readTree(asJson.getResponse().getContentAsByteArray()),
+                smile.readTree(asSmile.getResponse().getContentAsByteArray()));
+
+        mockMvc.perform(get("/api/v1/orders/999999").accept(cborType))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(cborType));
+    }
+
+    @Test
+    @DisplayName("Get Orders page by cursor")
+    void shouldGetOrdersPageByCursor() throws Exception{
+        List<Integer> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String orderJson = """
+                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+            """.formatted(clientIds.get(0), itemIds.get(0));
+
+            MvcResult orderResult = mockMvc.perform(post("/api/v1/orders/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(orderJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            orderIds.add(JsonPath.read(orderResult.getResponse().getContentAsString(), "$.id"));
+        }
+
+        mockMvc.perform(get("/api/v1/orders/")
+                .param("after", String.valueOf(orderIds.get(0) - 1))
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(orderIds.get(0)))
+                .andExpect(jsonPath("$.items[1].id").value(orderIds.get(1)))
+                .andExpect(jsonPath("$.nextCursor").value(orderIds.get(1)));
+
+        mockMvc.perform(get("/api/v1/orders/")
+                .param("after", String.valueOf(orderIds.get(1)))
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(orderIds.get(2)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Get Orders within a date range page by cursor")
+    void shouldGetOrdersBetweenDatesByCursor() throws Exception{
+        List<Integer> orderIds = new ArrayList<>();
+        for (String purchaseDate : List.of("2025-11-01", "2025-10-15", "2025-10-01", "2025-09-30", "2025-10-01")) {
+            String orderJson = """
+                {"clientId": %d, "itemId": %d, "purchaseDate": "%s", "total": 25.5}
+            """.formatted(clientIds.get(0), itemIds.get(0), purchaseDate);
+
+            MvcResult orderResult = mockMvc.perform(post("/api/v1/orders/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(orderJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            orderIds.add(JsonPath.read(orderResult.getResponse().getContentAsString(), "$.id"));
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/orders/")
+                .param("from", "2025-10-01")
+                .param("to", "2025-10-31")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(orderIds.get(2)))
+                .andExpect(jsonPath("$.items[1].id").value(orderIds.get(4)))
+                .andExpect(jsonPath("$.nextCursor").value("2025-10-01:" + orderIds.get(4)))
+                .andReturn();
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/v1/orders/")
+                .param("from", "2025-10-01")
+                .param("to", "2025-10-31")
+                .param("cursor", cursor)
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(orderIds.get(1)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/orders/").param("from", "2025-10-31").param("to", "2025-10-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/orders/").param("from", "2025-10-01").param("to", "2025-10-31").param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/orders/").param("from", "2025-10-01").param("to", "2025-10-31").param("cursor", "2025-09-30:1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Export all Orders as NDJSON")
+    void shouldExportOrdersAsNdjson() throws Exception{
+        for (int i = 0; i < 2; i++) {
+            String orderJson = """
+                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+            """.formatted(clientIds.get(i), itemIds.get(i));
+
+            mockMvc.perform(post("/api/v1/orders/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(orderJson))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult exportResult = mockMvc.perform(get("/api/v1/orders/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String[] lines = exportResult.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(clientIds.get(0), JsonPath.read(lines[0], "$.client_id"));
+        assertEquals(itemIds.get(1), JsonPath.read(lines[1], "$.item_id"));
+    }
+
     @Test
     @DisplayName("Get Order by ID")
     void shouldGetOrderById() throws Exception{
@@ -192,4 +386,84 @@ public class OrderIntegrationTest {
         mockMvc.perform(get("/api/v1/orders/" + orderId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("Update Order only if its ETag matches If-Match")
+    void shouldUpdateOrderIfMatch() throws Exception{
+        String orderJson = """
+            {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+        """.formatted(clientIds.get(0), itemIds.get(0));
+
+        MvcResult orderResult = mockMvc.perform(post("/api/v1/orders/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer orderId = JsonPath.read(orderResult.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(get("/api/v1/orders/" + orderId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+
+        String updatedOrderJson = """
+            {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-22", "total": 24.5}
+        """.formatted(clientIds.get(0), itemIds.get(1));
+
+        mockMvc.perform(put("/api/v1/orders/" + orderId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updatedOrderJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.item_id").value(itemIds.get(1)));
+
+        // A second update based on the first read is stale.
+        mockMvc.perform(put("/api/v1/orders/" + orderId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/orders/" + orderId)
+                        .header(HttpHeaders.IF_MATCH, "W/\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/orders/" + orderId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Reject an Order update that races with another one with 409")
+    void shouldReturnConflictOnConcurrentOrderUpdate() throws Exception{
+        String orderJson = """
+            {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+        """.formatted(clientIds.get(0), itemIds.get(0));
+
+        MvcResult orderResult = mockMvc.perform(post("/api/v1/orders/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer orderId = JsonPath.read(orderResult.getResponse().getContentAsString(), "$.id");
+
+        // Read the order at version 0, then let another writer commit version 1 behind its back.
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.find(OrderEntity.class, orderId.longValue());
+        jdbcTemplate.update("UPDATE orders SET version = version + 1 WHERE id = ?", orderId);
+
+        String updatedOrderJson = """
+            {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-22", "total": 24.5}
+        """.formatted(clientIds.get(0), itemIds.get(1));
+
+        mockMvc.perform(put("/api/v1/orders/" + orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updatedOrderJson))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
 }
@@ -0,0 +1,131 @@
+package com.pikolic.meli.integration;
+
+import com.pikolic.meli.repository.OrderRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the H2 plans of the date range listings. The statements Hibernate runs for the repository methods are
+ * captured through the datasource-proxy in front of the data source, then explained with the same parameters.
+ * {@code ANALYZE} commits, so these tests run without a surrounding test transaction, on a database of their own.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order_plans;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+public class OrderQueryPlanTest {
+
+    private static final int CLIENTS = 50;
+    private static final int DAYS = 100;
+    private static final int ORDERS = 5000;
+
+    private static final LocalDate FROM = LocalDate.of(2025, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 10, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final List<QueryInfo> statements = new CopyOnWriteArrayList<>();
+
+    private final QueryExecutionListener recorder = new QueryExecutionListener() {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            statements.addAll(queryInfoList);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("select count(*) from orders", Long.class) == 0) {
+            jdbcTemplate.update("insert into client (name, age, email, address) "
+                    + "select 'Client ' || x, 30, 'client' || x || '@gmail.com', 'Calle Falsa 123' from system_range(1, ?)", CLIENTS);
+            jdbcTemplate.update("insert into item (name, description, price) values ('Item', 'Item', 10.5)");
+            jdbcTemplate.update("insert into orders (id, client_id, item_id, purchase_date, total, version) "
+                            + "select x, (select min(id) from client) + mod(x, ?), (select min(id) from item), "
+                            + "dateadd(day, mod(x, ?), date '2025-08-01'), 10.5, 0 from system_range(1, ?)",
+                    CLIENTS, DAYS, ORDERS);
+            // Without statistics H2 assumes a few rows per client and settles for the foreign key index.
+            jdbcTemplate.execute("analyze");
+        }
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().addListener(recorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener().getListeners().remove(recorder);
+    }
+
+    @Test
+    @DisplayName("Read a date range of Orders through the (purchase_date, id) index")
+    void shouldReadOrdersBetweenDatesThroughIndex() throws Exception {
+        orderRepository.findResponsesBetween(FROM, TO, FROM, 0L, Limit.of(101));
+        String plan = explainRecordedStatement();
+
+        // Seeks to the range on the index and reads it in order: no scan, no sort.
+        assertTrue(plan.contains("IDX_ORDERS_PURCHASE_DATE_ID: PURCHASE_DATE >= ?1"), plan);
+        assertTrue(plan.contains("/* index sorted */"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("Read a date range of the Orders of a Client through the (client_id, purchase_date, id) index")
+    void shouldReadClientOrdersBetweenDatesThroughIndex() throws Exception {
+        Long clientId = jdbcTemplate.queryForObject("select min(id) from client", Long.class);
+        statements.clear();
+        orderRepository.findResponsesByClientIdBetween(clientId, FROM, TO, FROM, 0L, Limit.of(101));
+        String plan = explainRecordedStatement();
+
+        assertTrue(plan.contains("IDX_ORDERS_CLIENT_ID_PURCHASE_DATE_ID: CLIENT_ID = ?1"), plan);
+        assertTrue(plan.contains("AND PURCHASE_DATE >= ?2"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    /** Stops recording and runs {@code EXPLAIN} on the single statement recorded, with its parameters. */
+    private String explainRecordedStatement() throws Exception {
+        assertEquals(1, statements.size(), () -> statements.stream().map(QueryInfo::getQuery).toList().toString());
+        QueryInfo statement = statements.get(0);
+        tearDown();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("explain " + statement.getQuery())) {
+            for (ParameterSetOperation parameter : statement.getParametersList().get(0)) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+}
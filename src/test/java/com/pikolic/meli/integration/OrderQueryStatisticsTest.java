@@ -0,0 +1,185 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class OrderQueryStatisticsTest {
+
+    private static final int CLIENTS = 3;
+    private static final int ITEMS = 3;
+    private static final int ORDERS_PER_CLIENT = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Integer> clientIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        clientIds.clear();
+        for (int i = 0; i < CLIENTS; i++) {
+            String clientJson = """
+                {"name":"Client %d","age":30,"email":"client%d@gmail.com","address":"Calle Falsa 123"}
+            """.formatted(i, i);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/clients/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(clientJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            clientIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+
+        List<Integer> itemIds = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            String itemJson = """
+                {"name":"Item %d","description":"Item %d","price":10.5}
+            """.formatted(i, i);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/items/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(itemJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            itemIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+
+        for (Integer clientId : clientIds) {
+            for (int i = 0; i < ORDERS_PER_CLIENT; i++) {
+                String orderJson = """
+                    {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 10.5}
+                """.formatted(clientId, itemIds.get(i % ITEMS));
+
+                mockMvc.perform(post("/api/v1/orders/")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(orderJson))
+                        .andExpect(status().isCreated());
+            }
+        }
+
+        // Start every measurement with an empty persistence context, as a fresh request would.
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("List all Orders with a single statement")
+    void shouldListAllOrdersWithSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CLIENTS * ORDERS_PER_CLIENT));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("List a page of Orders with a single statement")
+    void shouldListOrdersPageWithSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("List Orders of a Client without loading their items")
+    void shouldListClientOrdersWithoutLoadingItems() throws Exception {
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ORDERS_PER_CLIENT));
+
+        // A single statement lists the orders, whatever their number; the client is only checked when none are found.
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get an Order of a Client and check its ownership with a single statement")
+    void shouldGetClientOrderWithSingleStatement() throws Exception {
+        MvcResult orders = mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders"))
+                .andExpect(status().isOk())
+                .andReturn();
+        Integer orderId = JsonPath.read(orders.getResponse().getContentAsString(), "$[0].id");
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0) + "/orders/" + orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.client_id").value(clientIds.get(0)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Delete a Client and all its Orders with three statements and no entity loads")
+    void shouldDeleteClientWithOrdersWithoutLoadingThem() throws Exception {
+        mockMvc.perform(delete("/api/v1/clients/" + clientIds.get(0)))
+                .andExpect(status().isNoContent());
+
+        // One set-based outbox insert and one delete for the orders, and one delete for the client,
+        // whatever the number of orders.
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        mockMvc.perform(get("/api/v1/clients/" + clientIds.get(0)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/orders/"))
+                .andExpect(jsonPath("$.length()").value((CLIENTS - 1) * ORDERS_PER_CLIENT));
+        mockMvc.perform(delete("/api/v1/clients/" + clientIds.get(0)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("List Orders within a date range with a single statement")
+    void shouldListOrdersBetweenDatesWithSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/")
+                        .param("from", "2025-10-01")
+                        .param("to", "2025-10-31")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
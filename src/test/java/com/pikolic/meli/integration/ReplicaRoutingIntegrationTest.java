@@ -0,0 +1,113 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pikolic.meli.datasource.ReplicationLagMonitor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Uses two in-memory H2 databases as stand-ins for a primary and a replica. Nothing replicates
+ * between them, so a row only present in the replica shows which database served a read.
+ * Runs without a test transaction, since a read-write test transaction would pin every read to the primary.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "meli.datasource.replicas.urls=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "meli.datasource.replicas.max-lag=5s",
+        "meli.datasource.replicas.lag-check-interval=1h",
+        "meli.datasource.replicas.lag-query=SELECT lag_seconds FROM replica_lag"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static final long REPLICA_ONLY_CLIENT_ID = 900001L;
+
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicationLagMonitor replicationLagMonitor;
+
+    @BeforeAll
+    static void setUpReplica() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+
+        replica = new JdbcTemplate(dataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds DOUBLE PRECISION NOT NULL)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        replica.update("MERGE INTO client (id, name, age, email, address) KEY (id) VALUES (?, ?, ?, ?, ?)",
+                REPLICA_ONLY_CLIENT_ID, "Replica Client", 30, "replica@gmail.com", "Calle Falsa 123");
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.update("UPDATE replica_lag SET lag_seconds = 0");
+        replicationLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("Should serve reads from the replica and writes from the primary")
+    void shouldRouteReadsToReplica() throws Exception {
+        mockMvc.perform(get("/api/v1/clients/" + REPLICA_ONLY_CLIENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Replica Client"));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/clients/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer clientId = JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+
+        // Written to the primary only, so the replica cannot see it.
+        mockMvc.perform(get("/api/v1/clients/" + clientId))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/v1/clients/" + clientId))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("Should send reads to the primary while the replica lags behind")
+    void shouldFallBackToPrimaryWhenReplicaLags() throws Exception {
+        replica.update("UPDATE replica_lag SET lag_seconds = 60");
+        replicationLagMonitor.check();
+
+        mockMvc.perform(get("/api/v1/clients/" + REPLICA_ONLY_CLIENT_ID))
+                .andExpect(status().isNotFound());
+
+        replica.update("UPDATE replica_lag SET lag_seconds = 0");
+        replicationLagMonitor.check();
+
+        mockMvc.perform(get("/api/v1/clients/" + REPLICA_ONLY_CLIENT_ID))
+                .andExpect(status().isOk());
+    }
+}
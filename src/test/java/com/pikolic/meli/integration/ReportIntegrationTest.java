@@ -0,0 +1,139 @@
+package com.pikolic.meli.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class ReportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Integer> clientIds = new ArrayList<>();
+    private final List<Integer> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clientIds.clear();
+        for (String clientJson : List.of(
+                """
+                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                """,
+                """
+                {"name":"Maria Perez","age":30,"email":"mperez@gmail.com","address":"Calle Falsa 123"}
+                """)) {
+            MvcResult result = mockMvc.perform(post("/api/v1/clients/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(clientJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            clientIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+
+        itemIds.clear();
+        for (String itemJson : List.of(
+                """
+                {"name":"Coca-Cola","description":"Coca-cola 600ml","price":25.5}
+                """,
+                """
+                {"name":"Pepsi","description":"Pepsi 600ml","price":24.5}
+                """)) {
+            MvcResult result = mockMvc.perform(post("/api/v1/items/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(itemJson))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            itemIds.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+        }
+
+        List<String> ordersJson = List.of(
+                """
+                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 25.5}
+                """.formatted(clientIds.get(0), itemIds.get(0)),
+                """
+                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-21", "total": 24.5}
+                """.formatted(clientIds.get(0), itemIds.get(1)),
+                """
+                {"clientId": %d, "itemId": %d, "purchaseDate": "2025-10-22", "total": 25.5}
+                """.formatted(clientIds.get(0), itemIds.get(0))
+        );
+
+        for (String orderJson : ordersJson) {
+            mockMvc.perform(post("/api/v1/orders/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(orderJson))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report order count and total spend of a client")
+    void shouldGetSpendForClient() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/clients/" + clientIds.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientId").value(clientIds.get(0)))
+                .andExpect(jsonPath("$.orderCount").value(3))
+                .andExpect(jsonPath("$.totalSpend").value(75.5));
+    }
+
+    @Test
+    @DisplayName("Should report zero spend for a client without orders and 404 for an unknown client")
+    void shouldGetEmptySpendForClientWithoutOrders() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/clients/" + clientIds.get(1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(0))
+                .andExpect(jsonPath("$.totalSpend").value(0.0));
+
+        mockMvc.perform(get("/api/v1/reports/clients/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should report units sold and revenue per item")
+    void shouldGetSalesByItem() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/items"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.itemId == " + itemIds.get(0) + ")].unitsSold").value(2))
+                .andExpect(jsonPath("$[?(@.itemId == " + itemIds.get(0) + ")].revenue").value(51.0))
+                .andExpect(jsonPath("$[?(@.itemId == " + itemIds.get(1) + ")].unitsSold").value(1));
+    }
+
+    @Test
+    @DisplayName("Should report revenue per purchase day and reject an inverted range")
+    void shouldGetRevenueByDay() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/daily-revenue")
+                        .param("from", "2025-10-21")
+                        .param("to", "2025-10-22"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].day").value("2025-10-21"))
+                .andExpect(jsonPath("$[0].orderCount").value(2))
+                .andExpect(jsonPath("$[0].revenue").value(50.0))
+                .andExpect(jsonPath("$[1].day").value("2025-10-22"))
+                .andExpect(jsonPath("$[1].revenue").value(25.5));
+
+        mockMvc.perform(get("/api/v1/reports/daily-revenue")
+                        .param("from", "2025-10-22")
+                        .param("to", "2025-10-21"))
+                .andExpect(status().isBadRequest());
+    }
+}
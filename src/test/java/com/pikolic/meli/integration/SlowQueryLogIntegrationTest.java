@@ -0,0 +1,80 @@
+package com.pikolic.meli.integration;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.pikolic.meli.logging.ServiceMethodMdcAspect;
+import com.pikolic.meli.logging.SlowQueryListener;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs with a zero threshold so that every statement counts as slow.
+ */
+@SpringBootTest(properties = "meli.sql.slow-query.threshold=0ms")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class SlowQueryLogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger slowQueryLogger = (Logger) LoggerFactory.getLogger(SlowQueryListener.LOGGER_NAME);
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        slowQueryLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should log statement, bind parameters and calling service method of slow queries")
+    void shouldLogSlowQueryWithContext() throws Exception {
+        mockMvc.perform(post("/api/v1/clients/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Angel Lomelí","age":24,"email":"alomelibravo@gmail.com","address":"Avenida los venados #408"}
+                                """))
+                .andExpect(status().isCreated());
+
+        ILoggingEvent insert = appender.list.stream()
+                .filter(event -> keyValues(event).get("sql").toString().startsWith("insert into client"))
+                .findFirst()
+                .orElseThrow();
+
+        Map<String, Object> keyValues = keyValues(insert);
+        assertEquals("ClientServiceImpl.create", insert.getMDCPropertyMap().get(ServiceMethodMdcAspect.MDC_KEY));
+        assertTrue(keyValues.get("params").toString().contains("alomelibravo@gmail.com"));
+        assertTrue((Long) keyValues.get("elapsedMs") >= 0);
+        assertEquals(true, keyValues.get("success"));
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+}